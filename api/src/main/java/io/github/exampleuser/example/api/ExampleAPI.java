@@ -1,6 +1,10 @@
 package io.github.exampleuser.example.api;
 
+import io.github.exampleuser.example.api.database.QueryStatistics;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 
 /**
  * The ExampleAPI class is the main entry point for accessing the Example API.
@@ -20,6 +24,14 @@ public abstract class ExampleAPI {
         return INSTANCE;
     }
 
+    /**
+     * Gets the execution statistics of the queries made by the plugin, ordered by total time spent descending.
+     *
+     * @return the statistics, or an empty list if the database is not running
+     * @since 1.3.0
+     */
+    public abstract @NotNull List<? extends QueryStatistics> getQueryStatistics();
+
     /**
      * Sets the instance of the ExampleAPI.
      * This method is intended for internal use by the api provider only.
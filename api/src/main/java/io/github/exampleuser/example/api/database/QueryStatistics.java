@@ -0,0 +1,71 @@
+package io.github.exampleuser.example.api.database;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Execution statistics of all queries sharing the same SQL fingerprint.
+ * <p>
+ * A fingerprint is the executed SQL with literals and bind values replaced by placeholders, so queries that only differ
+ * in their values are grouped together.
+ * </p>
+ *
+ * @since 1.3.0
+ */
+public interface QueryStatistics {
+    /**
+     * Gets the normalized SQL of the queries.
+     *
+     * @return the fingerprint
+     * @since 1.3.0
+     */
+    @NotNull String getFingerprint();
+
+    /**
+     * Gets the amount of executions.
+     *
+     * @return the execution count
+     * @since 1.3.0
+     */
+    long getExecutions();
+
+    /**
+     * Gets the amount of executions that threw an exception.
+     *
+     * @return the failure count
+     * @since 1.3.0
+     */
+    long getFailures();
+
+    /**
+     * Gets the total amount of rows fetched or affected by all executions.
+     *
+     * @return the row count
+     * @since 1.3.0
+     */
+    long getRows();
+
+    /**
+     * Gets the total time spent executing the queries and fetching their results.
+     *
+     * @return the total time in milliseconds
+     * @since 1.3.0
+     */
+    double getTotalMillis();
+
+    /**
+     * Gets the mean latency of the queries.
+     *
+     * @return the mean latency in milliseconds
+     * @since 1.3.0
+     */
+    double getMeanMillis();
+
+    /**
+     * Gets an estimate of a latency percentile, accurate to a power of two.
+     *
+     * @param percentile the percentile between 0 and 1, like {@code 0.95}
+     * @return the latency in milliseconds
+     * @since 1.3.0
+     */
+    double getPercentileMillis(double percentile);
+}
@@ -3,6 +3,7 @@ import org.jooq.meta.jaxb.Logging
 plugins {
     alias(libs.plugins.jooq) // Database ORM
     flyway
+    alias(libs.plugins.jmh) // Microbenchmarks, run with "gradlew :common:jmh"
 }
 
 dependencies {
@@ -21,6 +22,7 @@ dependencies {
         isTransitive = false
     }
     annotationProcessor(libs.configurate.interfaces.ap)
+    annotationProcessor(projects.processor) // Generates codecs for @MessagePayload records
     api(libs.colorparser.common) {
         exclude("net.kyori")
     }
@@ -42,6 +44,7 @@ dependencies {
 
     // Testing - Core
     testImplementation(libs.annotations)
+    testAnnotationProcessor(projects.processor)
     testImplementation(platform(libs.junit.bom))
     testImplementation(libs.bundles.junit)
     testRuntimeOnly(libs.slf4j)
@@ -59,6 +62,15 @@ dependencies {
 
     // Testing - Messaging service clients
     testImplementation(libs.bundles.messagingclients)
+
+    // Benchmarks
+    jmh(libs.paper.api)
+    jmh(libs.jooq)
+    jmh(libs.bundles.jdbcdrivers)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
 }
 
 flyway {
@@ -0,0 +1,118 @@
+package io.github.exampleuser.example.cooldown;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DurationFormatter} against the previous {@code String.format} based {@link Cooldowns.TimeFormat} implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeFormatBenchmark {
+    @Param({"45", "1845", "5445"})
+    public long seconds;
+
+    private Duration duration;
+    private final StringBuilder sb = new StringBuilder(64);
+
+    @Setup
+    public void setup() {
+        duration = Duration.ofSeconds(seconds);
+    }
+
+    @Benchmark
+    public String legacyDetailed() {
+        return LegacyTimeFormat.DETAILED.format(duration);
+    }
+
+    @Benchmark
+    public String legacyCompact() {
+        return LegacyTimeFormat.COMPACT.format(duration);
+    }
+
+    @Benchmark
+    public String detailed() {
+        return Cooldowns.TimeFormat.DETAILED.format(duration);
+    }
+
+    @Benchmark
+    public String compact() {
+        return Cooldowns.TimeFormat.COMPACT.format(duration);
+    }
+
+    @Benchmark
+    public StringBuilder detailedAppend() {
+        sb.setLength(0);
+        return DurationFormatter.get().appendTo(sb, seconds, Cooldowns.TimeFormat.DETAILED);
+    }
+
+    @Benchmark
+    public StringBuilder compactAppend() {
+        sb.setLength(0);
+        return DurationFormatter.get().appendTo(sb, seconds, Cooldowns.TimeFormat.COMPACT);
+    }
+
+    /**
+     * Copy of the original implementation, kept as the benchmark baseline.
+     */
+    private enum LegacyTimeFormat {
+        DETAILED {
+            @Override
+            public String format(Duration duration) {
+                if (duration.isZero()) {
+                    return "0 seconds";
+                }
+
+                final long hours = duration.toHours();
+                final long minutes = duration.toMinutesPart();
+                final long seconds = duration.toSecondsPart();
+
+                if (hours > 0) {
+                    return String.format("%d hour%s, %d minute%s, and %d second%s",
+                        hours, hours == 1 ? "" : "s",
+                        minutes, minutes == 1 ? "" : "s",
+                        seconds, seconds == 1 ? "" : "s");
+                } else if (minutes > 0) {
+                    return String.format("%d minute%s and %d second%s",
+                        minutes, minutes == 1 ? "" : "s",
+                        seconds, seconds == 1 ? "" : "s");
+                } else {
+                    return String.format("%d second%s", seconds, seconds == 1 ? "" : "s");
+                }
+            }
+        },
+        COMPACT {
+            @Override
+            public String format(Duration duration) {
+                if (duration.isZero()) {
+                    return "0s";
+                }
+
+                final long hours = duration.toHours();
+                final long minutes = duration.toMinutesPart();
+                final long seconds = duration.toSecondsPart();
+
+                StringBuilder sb = new StringBuilder();
+                if (hours > 0) {
+                    sb.append(hours).append("h ");
+                }
+                if (minutes > 0) {
+                    sb.append(minutes).append("m ");
+                }
+                if (seconds > 0) {
+                    sb.append(seconds).append("s");
+                }
+
+                return sb.toString().trim();
+            }
+        };
+
+        public abstract String format(Duration duration);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.exampleuser.example.database.config;
+
+import io.github.exampleuser.example.database.handler.DatabaseType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the H2 performance profile built by {@link HikariConfigFactory} against the previous settings, which
+ * always enabled {@code AUTO_SERVER} and left cache and lock settings at their defaults.
+ * <p>
+ * {@code connect} measures opening a connection, where {@code AUTO_SERVER} adds file lock and server overhead.
+ * {@code insert} and {@code select} measure single-row statements on an open connection.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class H2ProfileBenchmark {
+    private static final String LEGACY_PROPERTIES = ";AUTO_SERVER=TRUE;MODE=MySQL;CASE_INSENSITIVE_IDENTIFIERS=TRUE;IGNORECASE=TRUE";
+    private static final int ROWS = 10_000;
+
+    @Param({"legacy", "profile"})
+    public String settings;
+
+    private Path directory;
+    private String url;
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement select;
+    private int nextId = ROWS;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("h2-benchmark");
+
+        if (settings.equals("legacy")) {
+            url = "jdbc:h2:file:%s%s".formatted(directory.resolve("database").toAbsolutePath(), LEGACY_PROPERTIES);
+        } else {
+            final DatabaseConfig config = DatabaseConfig.builder()
+                .withDatabaseType(DatabaseType.H2)
+                .withPath(directory)
+                .build();
+            url = (String) HikariConfigFactory.get(config).getDataSourceProperties().get("url");
+        }
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bench (id INT PRIMARY KEY, name VARCHAR(64))");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO bench (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setInt(1, i);
+                statement.setString(2, "name" + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        insert = connection.prepareStatement("INSERT INTO bench (id, name) VALUES (?, ?)");
+        select = connection.prepareStatement("SELECT name FROM bench WHERE id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        insert.close();
+        select.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList())
+                Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public boolean connect() throws SQLException {
+        try (Connection con = DriverManager.getConnection(url, "sa", "")) {
+            return con.isValid(1);
+        }
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        insert.setInt(1, nextId++);
+        insert.setString(2, "inserted");
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public String select() throws SQLException {
+        select.setInt(1, ThreadLocalRandom.current().nextInt(ROWS));
+        try (ResultSet rs = select.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+}
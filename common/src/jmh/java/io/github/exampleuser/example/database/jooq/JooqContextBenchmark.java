@@ -0,0 +1,89 @@
+package io.github.exampleuser.example.database.jooq;
+
+import org.jooq.*;
+import org.jooq.conf.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static io.github.exampleuser.example.database.schema.Tables.COOLDOWNS;
+
+/**
+ * Measures the per-query overhead of creating a {@link DSLContext}, comparing {@link JooqContext} against the
+ * previous implementation that built a new configuration and settings on every call.
+ * <p>
+ * The {@code render} benchmarks include rendering a typical query, showing the total cost paid before a statement
+ * reaches the driver.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JooqContextBenchmark {
+    private static final Pattern MATCH_ALL_EXCEPT_INFORMATION_SCHEMA = Pattern.compile("^(?!INFORMATION_SCHEMA)(.*?)$");
+    private static final Pattern MATCH_ALL = Pattern.compile("^(.*?)$");
+
+    private final JooqContext jooqContext = new JooqContext(SQLDialect.MYSQL, "example_");
+    private final Connection connection = null; // Rendering never touches the connection
+
+    @Benchmark
+    public DSLContext legacyCreate() {
+        return legacyCreateContext(connection);
+    }
+
+    @Benchmark
+    public DSLContext create() {
+        return jooqContext.createContext(connection);
+    }
+
+    @Benchmark
+    public String legacyRender() {
+        return legacyCreateContext(connection).selectFrom(COOLDOWNS).where(COOLDOWNS.UUID.eq(new byte[16])).getSQL();
+    }
+
+    @Benchmark
+    public String render() {
+        return jooqContext.createContext(connection).selectFrom(COOLDOWNS).where(COOLDOWNS.UUID.eq(new byte[16])).getSQL();
+    }
+
+    /**
+     * Copy of the original implementation, kept as the benchmark baseline.
+     */
+    private static DSLContext legacyCreateContext(Connection connection) {
+        record SimpleConnectionProvider(Connection connection) implements ConnectionProvider {
+            @Override
+            public Connection acquire() throws DataAccessException {
+                return connection;
+            }
+
+            @Override
+            public void release(Connection connection) throws DataAccessException {
+            }
+        }
+
+        return new DefaultConfiguration()
+            .set(new SimpleConnectionProvider(connection))
+            .set(SQLDialect.MYSQL)
+            .set(new Settings()
+                .withBackslashEscaping(BackslashEscaping.OFF)
+                .withRenderSchema(false)
+                .withRenderMapping(new RenderMapping()
+                    .withSchemata(new MappedSchema()
+                        .withInputExpression(MATCH_ALL_EXCEPT_INFORMATION_SCHEMA)
+                        .withTables(new MappedTable()
+                            .withInputExpression(MATCH_ALL)
+                            .withOutput("example_$0")
+                        )
+                    )
+                ))
+            .set(new ExecuteListenerProvider[0])
+            .dsl();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.exampleuser.example.messaging.message;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU cost of compressing messages in {@link BidirectionalMessage}, against the bandwidth it saves.
+ * <p>
+ * The payload imitates a serialized inventory, structured text with a limited vocabulary like most large payloads.
+ * {@code encode} and {@code decode} measure the binary format, {@code encodeAsString} the Base64 form sent over Redis
+ * and stored in the database. The encoded sizes are printed during setup, so the time per message can be weighed
+ * against the bytes saved per message.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+    private static final String[] MATERIALS = {"DIAMOND_SWORD", "IRON_PICKAXE", "COBBLESTONE", "OAK_LOG", "BREAD", "TORCH", "GOLDEN_APPLE", "ARROW"};
+
+    @Param({"512", "8192", "49152"})
+    public int size;
+
+    @Param({"0", "1024"})
+    public int threshold;
+
+    private BidirectionalMessage<String> message;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        BidirectionalMessage.setCompressionThreshold(threshold);
+
+        final Random random = new Random(size);
+        final StringBuilder payload = new StringBuilder(size + 128);
+        for (int slot = 0; payload.length() < size; slot++) {
+            payload.append("{\"slot\":").append(slot % 36)
+                .append(",\"type\":\"").append(MATERIALS[random.nextInt(MATERIALS.length)])
+                .append("\",\"amount\":").append(1 + random.nextInt(64))
+                .append(",\"damage\":").append(random.nextInt(1562))
+                .append('}');
+        }
+
+        message = BidirectionalMessage.<String>builder()
+            .channelId("inventory")
+            .payload(payload.substring(0, size))
+            .build();
+        encoded = message.encode();
+
+        System.out.printf("%n%d byte payload with threshold %d: %d bytes encoded, %d bytes as Base64%n", size, threshold, encoded.length, Base64.getEncoder().encodeToString(encoded).length());
+    }
+
+    @TearDown
+    public void tearDown() {
+        BidirectionalMessage.setCompressionThreshold(BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return message.encode();
+    }
+
+    @Benchmark
+    public String encodeAsString() {
+        return message.encodeAsString();
+    }
+
+    @Benchmark
+    public BidirectionalMessage<String> decode() {
+        return BidirectionalMessage.from(encoded);
+    }
+}
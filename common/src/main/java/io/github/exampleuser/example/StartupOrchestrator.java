@@ -0,0 +1,262 @@
+package io.github.exampleuser.example;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the {@link Reloadable#onLoad(AbstractExample)} of handlers in dependency order, starting independent handlers
+ * concurrently.
+ * <p>
+ * Steps added with {@link Builder#async(String, Reloadable, String...)} run on worker threads as soon as their
+ * dependencies have loaded, so slow handlers like the database pool and the message broker connect at the same time.
+ * Steps added with {@link Builder#sync(String, Reloadable, String...)} run on the calling thread in the order they were
+ * added, after waiting for their dependencies, for handlers that must load on the server thread.
+ * </p>
+ * <p>
+ * Dependencies may only name steps added before, so the steps can never form a cycle. A breakdown of the time spent
+ * in each step is logged once all steps have loaded.
+ * </p>
+ * Usage:
+ * <pre>{@code
+ * StartupOrchestrator.builder()
+ *     .withLogger(getComponentLogger())
+ *     .sync("Config", configHandler)
+ *     .async("Database", databaseHandler, "Config")
+ *     .async("Messaging", messagingHandler, "Config")
+ *     .sync("Commands", commandHandler, "Database")
+ *     .build()
+ *     .load(plugin);
+ * }</pre>
+ */
+public final class StartupOrchestrator {
+    private static final String LOG_PREFIX = "[Startup] ";
+
+    private final Logger logger;
+    private final List<Step> steps;
+
+    private StartupOrchestrator(Logger logger, List<Step> steps) {
+        this.logger = logger;
+        this.steps = steps;
+    }
+
+    /**
+     * Load all steps, returning once every step has loaded.
+     * <p>
+     * A step throwing an exception is logged and does not prevent the steps depending on it from loading, handlers
+     * are expected to check whether what they depend on has started, like they do when loaded serially.
+     * </p>
+     *
+     * @param plugin the plugin
+     */
+    public void load(@NotNull AbstractExample plugin) {
+        final long start = System.nanoTime();
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            final Thread t = new Thread(r, "Startup-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        final Map<String, CompletableFuture<Void>> loaded = new HashMap<>();
+        final Map<String, Long> durations = new LinkedHashMap<>();
+
+        try {
+            for (Step step : steps) {
+                final CompletableFuture<Void> ready = dependencies(step, loaded);
+
+                if (step.async()) {
+                    loaded.put(step.name(), ready.thenRunAsync(() -> run(plugin, step, durations), executor));
+                } else {
+                    ready.join();
+                    run(plugin, step, durations);
+                    loaded.put(step.name(), CompletableFuture.completedFuture(null));
+                }
+            }
+
+            CompletableFuture.allOf(loaded.values().toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        logTimings(start, durations);
+    }
+
+    /**
+     * Get a future completing once the dependencies of a step have loaded. Conditional dependencies are evaluated once
+     * the unconditional ones have loaded.
+     */
+    private static CompletableFuture<Void> dependencies(Step step, Map<String, CompletableFuture<Void>> loaded) {
+        final CompletableFuture<Void> required = CompletableFuture.allOf(step.dependencies().stream()
+            .map(loaded::get)
+            .toArray(CompletableFuture[]::new));
+
+        if (step.conditionalDependencies().isEmpty())
+            return required;
+
+        final List<Map.Entry<BooleanSupplier, CompletableFuture<Void>>> conditional = step.conditionalDependencies().entrySet().stream()
+            .map(e -> Map.entry(e.getValue(), loaded.get(e.getKey())))
+            .toList();
+
+        return required.thenCompose(v -> CompletableFuture.allOf(conditional.stream()
+            .filter(e -> e.getKey().getAsBoolean())
+            .map(Map.Entry::getValue)
+            .toArray(CompletableFuture[]::new)));
+    }
+
+    private void run(AbstractExample plugin, Step step, Map<String, Long> durations) {
+        final long start = System.nanoTime();
+        try {
+            step.handler().onLoad(plugin);
+        } catch (Exception e) {
+            logger.error(LOG_PREFIX + "Failed to load {}:", step.name(), e);
+        } finally {
+            synchronized (durations) {
+                durations.put(step.name(), System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void logTimings(long start, Map<String, Long> durations) {
+        final long total = System.nanoTime() - start;
+        final String breakdown;
+        synchronized (durations) {
+            breakdown = steps.stream()
+                .filter(step -> durations.containsKey(step.name()))
+                .map(step -> "%s %dms%s".formatted(
+                    step.name(),
+                    TimeUnit.NANOSECONDS.toMillis(durations.get(step.name())),
+                    step.async() ? " (async)" : ""
+                ))
+                .collect(Collectors.joining(", "));
+        }
+
+        logger.info(LOG_PREFIX + "Loaded in {}ms: {}", TimeUnit.NANOSECONDS.toMillis(total), breakdown);
+    }
+
+    /**
+     * Get a builder instance.
+     *
+     * @return the builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A handler to load.
+     *
+     * @param name                    the name shown in logs and used by dependent steps
+     * @param handler                 the handler
+     * @param async                   whether the step runs on a worker thread
+     * @param dependencies            the steps that must load first
+     * @param conditionalDependencies the steps that must load first if their condition is true
+     */
+    private record Step(String name, Reloadable handler, boolean async, List<String> dependencies, Map<String, BooleanSupplier> conditionalDependencies) {
+    }
+
+    /**
+     * A builder for {@link StartupOrchestrator}.
+     */
+    public static final class Builder {
+        private Logger logger;
+        private final List<Step> steps = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * With logger builder.
+         *
+         * @param logger the logger
+         * @return the builder
+         */
+        public Builder withLogger(@NotNull Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * Add a step loading on the calling thread.
+         *
+         * @param name         the step name
+         * @param handler      the handler
+         * @param dependencies the names of steps that must load first
+         * @return the builder
+         * @throws IllegalArgumentException if the name is taken or a dependency was not added before
+         */
+        public Builder sync(@NotNull String name, @NotNull Reloadable handler, String... dependencies) throws IllegalArgumentException {
+            return add(name, handler, false, dependencies);
+        }
+
+        /**
+         * Add a step loading on a worker thread.
+         *
+         * @param name         the step name
+         * @param handler      the handler
+         * @param dependencies the names of steps that must load first
+         * @return the builder
+         * @throws IllegalArgumentException if the name is taken or a dependency was not added before
+         */
+        public Builder async(@NotNull String name, @NotNull Reloadable handler, String... dependencies) throws IllegalArgumentException {
+            return add(name, handler, true, dependencies);
+        }
+
+        /**
+         * Make the last added step depend on another step, if a condition is true once its other dependencies have
+         * loaded. Use for dependencies decided by configuration, which is not loaded yet when building.
+         *
+         * @param dependency the name of the step
+         * @param condition  the condition
+         * @return the builder
+         * @throws IllegalArgumentException if the dependency was not added before
+         * @throws IllegalStateException    if no step was added yet
+         */
+        public Builder dependsOnIf(@NotNull String dependency, @NotNull BooleanSupplier condition) throws IllegalArgumentException, IllegalStateException {
+            if (steps.isEmpty())
+                throw new IllegalStateException("No step to add a dependency to");
+
+            final Step step = steps.getLast();
+            requireAdded(dependency, step.name());
+            step.conditionalDependencies().put(dependency, condition);
+            return this;
+        }
+
+        private Builder add(String name, Reloadable handler, boolean async, String... dependencies) {
+            if (steps.stream().anyMatch(step -> step.name().equals(name)))
+                throw new IllegalArgumentException("Step " + name + " was already added");
+
+            for (String dependency : dependencies)
+                requireAdded(dependency, name);
+
+            steps.add(new Step(name, handler, async, List.of(dependencies), new LinkedHashMap<>()));
+            return this;
+        }
+
+        private void requireAdded(String dependency, String name) {
+            if (steps.stream().noneMatch(step -> step.name().equals(dependency)))
+                throw new IllegalArgumentException("Step " + name + " depends on " + dependency + " which must be added before it");
+        }
+
+        /**
+         * Build the orchestrator.
+         *
+         * @return the orchestrator
+         * @throws IllegalStateException if the logger is missing
+         */
+        public @NotNull StartupOrchestrator build() throws IllegalStateException {
+            if (logger == null)
+                throw new IllegalStateException("Logger is required to build StartupOrchestrator");
+
+            return new StartupOrchestrator(logger, List.copyOf(steps));
+        }
+    }
+}
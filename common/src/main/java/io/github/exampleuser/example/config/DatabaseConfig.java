@@ -3,6 +3,7 @@ package io.github.exampleuser.example.config;
 import io.github.exampleuser.example.config.exception.ConfigValidationException;
 import io.github.exampleuser.example.config.migration.Migration;
 import io.github.exampleuser.example.database.handler.DatabaseType;
+import io.github.exampleuser.example.database.handler.MainThreadPolicy;
 import io.github.exampleuser.example.messaging.broker.BrokerType;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.configurate.interfaces.meta.Exclude;
@@ -46,7 +47,7 @@ public class DatabaseConfig implements VersionedConfig {
 
     @ConfigSerializable
     public static class Database {
-        @Comment("Available types: \"sqlite\", \"h2\", \"mysql\", \"mariadb\"")
+        @Comment("Available types: \"sqlite\", \"h2\", \"mysql\", \"mariadb\"\nOnly the driver of this type is loaded, changing it requires a server restart")
         public DatabaseType type = DatabaseType.SQLITE;
         public String tablePrefix = "example_";
 
@@ -57,6 +58,20 @@ public class DatabaseConfig implements VersionedConfig {
         public String username = "root";
         public String password = "";
 
+        @Comment("Optional read replica, heavy read queries are sent to it instead of the primary database.\nFalls back to the primary while the replica is unreachable. Only supported for MySQL and MariaDB.")
+        public Replica replica = new Replica();
+
+        @ConfigSerializable
+        public static class Replica {
+            public boolean enabled = false;
+            public String host = "localhost";
+            public int port = 3306;
+            @Comment("Leave the username empty to use the credentials of the primary database")
+            public String username = "";
+            public String password = "";
+            public int maxpoolsize = 5;
+        }
+
         @Comment("Advanced settings (Please don't touch unless you know what you're doing!)")
         public Advanced advanced = new Advanced();
 
@@ -65,6 +80,54 @@ public class DatabaseConfig implements VersionedConfig {
             @Comment("Should we try to repair broken migrations to the database")
             public boolean repair = false;
 
+            @Comment("What to do when a blocking database query is made on the server thread\nAvailable options: \"ignore\", \"warn\", \"throw\"")
+            public MainThreadPolicy mainThreadAccess = MainThreadPolicy.WARN;
+
+            @Comment("Log queries taking longer than this many milliseconds to execute\nSet to 0 to disable slow query logging")
+            public long slowQueryThreshold = 250;
+
+            @Comment("Amount of rows fetched per round-trip by queries streaming large results")
+            public int fetchSize = 1000;
+
+            @Comment("SQLite-specific settings. All writes go through a single connection, while reads use a small pool of read-only connections.")
+            public Sqlite sqlite = new Sqlite();
+
+            @ConfigSerializable
+            public static class Sqlite {
+                @Comment("Use write-ahead logging, allowing reads while a write is in progress")
+                public boolean wal = true;
+
+                @Comment("Amount of read-only connections, only used when wal is enabled. Set to 0 to do all reads on the writer connection.")
+                public int readerPoolSize = 4;
+
+                @Comment("Milliseconds to wait for a lock before failing with SQLITE_BUSY")
+                public long busyTimeout = 5000;
+
+                @Comment("Page cache size per connection in KiB")
+                public long cacheSize = 16384;
+
+                @Comment("Maximum amount of bytes of the database file to memory map. Set to 0 to disable.")
+                public long mmapSize = 67108864;
+            }
+
+            @Comment("H2-specific settings")
+            public H2 h2 = new H2();
+
+            @ConfigSerializable
+            public static class H2 {
+                @Comment("Enable if other processes (like a database viewer) need to open the database while the server runs.\nThis starts a TCP server and adds file locking overhead to every connection.")
+                public boolean multiProcess = false;
+
+                @Comment("Page cache size in KiB")
+                public long cacheSize = 65536;
+
+                @Comment("Milliseconds to wait for a lock before failing")
+                public long lockTimeout = 10000;
+
+                @Comment("Maximum milliseconds before committed changes are written to disk")
+                public long writeDelay = 500;
+            }
+
             @Comment("Configure the HikariCP connection pool")
             public ConnectionPool connectionPool = new ConnectionPool();
 
@@ -106,6 +169,12 @@ public class DatabaseConfig implements VersionedConfig {
                 public long maxlifetime = 180000;
                 public long keepalivetime = 60000;
                 public long connectiontimeout = 20000;
+
+                @Comment("Warn when at least this many threads are waiting for a connection\nSet to 0 to disable pool saturation warnings")
+                public int saturationthreshold = 2;
+
+                @Comment("How long in milliseconds the pool must stay saturated before warning")
+                public long saturationduration = 5000;
             }
 
             @Comment("A list of connection parameters, you can include more by adding them on a new line")
@@ -143,7 +212,7 @@ public class DatabaseConfig implements VersionedConfig {
         @Comment("How often to clean up old messages (in milliseconds)\nMust be at least 3x the polling-interval")
         public int cleanupInterval = 30000;
 
-        @Comment("Available broker types: \"database\", \"plugin\", \"redis\", \"rabbitmq\", \"nats\"")
+        @Comment("Available broker types: \"database\", \"plugin\", \"redis\", \"rabbitmq\", \"nats\"\nOnly the client of this type is loaded, changing it requires a server restart")
         public BrokerType type = BrokerType.DATABASE;
 
         @Comment("One or more broker addresses. A plain string works for a single broker; use a YAML list for clusters:\n  - node1:6379\n  - node2:6379\nDefault port varies by broker: Redis 6379, RabbitMQ 5672, NATS 4222")
@@ -175,6 +244,9 @@ public class DatabaseConfig implements VersionedConfig {
             @Comment("Auth token used with auth-method: \"token\" (JWT, API key, Redis AUTH token, etc.)")
             public String authToken = "";
 
+            @Comment("Compress messages of at least this many bytes before sending, saving bandwidth for a little CPU time\nAll servers must run the same plugin version. Set to 0 to disable compression")
+            public int compressionThreshold = 1024;
+
             @Comment("SSL/TLS configuration")
             public SSL ssl = new SSL();
 
@@ -7,6 +7,7 @@ import org.spongepowered.configurate.interfaces.meta.Exclude;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
+import java.util.List;
 import java.util.Map;
 
 @ConfigSerializable
@@ -29,6 +30,16 @@ public class PluginConfig implements VersionedConfig {
     @Override
     @Exclude
     public void validate() throws ConfigValidationException {
+        if (cooldowns.flushInterval <= 0)
+            throw new ConfigValidationException("cooldowns.flush-interval (" + cooldowns.flushInterval + "ms) must be greater than 0");
+        if (cooldowns.purgeInterval <= 0)
+            throw new ConfigValidationException("cooldowns.purge-interval (" + cooldowns.purgeInterval + "ms) must be greater than 0");
+        if (cooldowns.batchSize <= 0)
+            throw new ConfigValidationException("cooldowns.batch-size (" + cooldowns.batchSize + ") must be greater than 0");
+        if (cooldowns.purgeChunkSize <= 0)
+            throw new ConfigValidationException("cooldowns.purge-chunk-size (" + cooldowns.purgeChunkSize + ") must be greater than 0");
+        if (cooldowns.shutdownDeadline < 0)
+            throw new ConfigValidationException("cooldowns.shutdown-deadline (" + cooldowns.shutdownDeadline + "ms) must not be negative");
     }
 
     @Comment("Update Checker Settings")
@@ -46,6 +57,33 @@ public class PluginConfig implements VersionedConfig {
         public boolean op = true;
     }
 
+    @Comment("Cooldown Settings")
+    public Cooldowns cooldowns = new Cooldowns();
+
+    @ConfigSerializable
+    public static class Cooldowns {
+        @Comment("Replicate cooldown changes to other servers through the messaging broker?\nRequires messaging to be enabled in database.yml. The database is then only read the first time a player joins after startup.")
+        public boolean sync = false;
+
+        @Comment("Additional cooldown types to register, for use by commands or other plugins\nEach name may only contain lowercase letters, digits, underscores and dashes")
+        public List<String> types = List.of();
+
+        @Comment("How often queued cooldown writes are flushed to the database (in milliseconds)\nMust be greater than 0")
+        public long flushInterval = 5000;
+
+        @Comment("Maximum amount of players whose cooldowns are written in a single database transaction\nMust be greater than 0")
+        public int batchSize = 100;
+
+        @Comment("How long to wait for queued cooldown writes when the server stops (in milliseconds)\nCooldowns still queued after this are lost")
+        public long shutdownDeadline = 10000;
+
+        @Comment("How often expired cooldowns are purged from the database (in milliseconds)\nMust be greater than 0")
+        public long purgeInterval = 600000;
+
+        @Comment("Maximum amount of players whose expired cooldowns are deleted per query while purging\nMust be greater than 0")
+        public int purgeChunkSize = 500;
+    }
+
     @Comment("Language, specify the language file to use, for example `en_US` which will load `/lang/en_US.json`")
     public String language = "en_US";
 }
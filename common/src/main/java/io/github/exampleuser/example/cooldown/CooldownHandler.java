@@ -2,25 +2,51 @@ package io.github.exampleuser.example.cooldown;
 
 import io.github.exampleuser.example.AbstractExample;
 import io.github.exampleuser.example.Reloadable;
+import io.github.exampleuser.example.config.PluginConfig;
 import io.github.exampleuser.example.cooldown.listener.ListenerHandler;
+import io.github.exampleuser.example.cooldown.persistence.CooldownWriteQueue;
+import io.github.exampleuser.example.cooldown.sync.CooldownReplicator;
 import io.github.exampleuser.example.database.Queries;
+import io.github.exampleuser.example.utility.DB;
+import io.github.exampleuser.example.utility.Logger;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public final class CooldownHandler implements Reloadable {
+    private static final String LOG_PREFIX = "[Cooldowns] ";
+    private final CooldownWriteQueue writeQueue = new CooldownWriteQueue();
     private ListenerHandler listenerHandler;
+    private @Nullable CooldownReplicator replicator;
     private ScheduledTask autoSaveTask;
+    private ScheduledTask databasePurgeTask;
+    private @Nullable ScheduledTask purgeTask;
 
     @Override
     public void onLoad(AbstractExample plugin) {
         if (listenerHandler != null)
             return;
 
-        listenerHandler = new ListenerHandler(plugin);
+        for (final String name : plugin.getConfigHandler().getConfig().cooldowns.types) {
+            try {
+                CooldownTypeRegistry.register(name);
+            } catch (IllegalArgumentException e) {
+                Logger.get().warn(LOG_PREFIX + e.getMessage());
+            }
+        }
+        if (!DB.isStarted() || !CooldownTypeRegistry.bind()) {
+            Logger.get().error(LOG_PREFIX + "Cooldown types could not be bound to ids, cooldowns are disabled until the database is available.");
+            return;
+        }
+
+        if (plugin.getConfigHandler().getConfig().cooldowns.sync)
+            replicator = new CooldownReplicator();
+
+        listenerHandler = new ListenerHandler(plugin, writeQueue, replicator);
         listenerHandler.onLoad(plugin);
     }
 
@@ -29,8 +55,18 @@ public final class CooldownHandler implements Reloadable {
         if (listenerHandler == null)
             return;
 
+        final PluginConfig.Cooldowns config = plugin.getConfigHandler().getConfig().cooldowns;
+        writeQueue.start(config.flushInterval, config.batchSize);
+
         listenerHandler.onEnable(plugin);
         autoSaveTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, autoSaveTask(plugin), 10L, 10L, TimeUnit.MINUTES);
+        final long purgeInterval = Math.max(1L, config.purgeInterval);
+        databasePurgeTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, databasePurgeTask(Math.max(1, config.purgeChunkSize)), purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+
+        if (replicator != null) {
+            Cooldowns.addChangeListener(replicator);
+            purgeTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, task -> replicator.purgeExpired(), 1L, 1L, TimeUnit.MINUTES);
+        }
     }
 
     @Override
@@ -39,7 +75,19 @@ public final class CooldownHandler implements Reloadable {
             return;
 
         autoSaveTask.cancel();
+        databasePurgeTask.cancel();
+        if (purgeTask != null)
+            purgeTask.cancel();
         listenerHandler.onDisable(plugin);
+
+        // Guarantee online players are written before the database shuts down
+        for (final Player p : plugin.getServer().getOnlinePlayers())
+            writeQueue.enqueue(p.getUniqueId());
+
+        final int remaining = writeQueue.stop(plugin.getConfigHandler().getConfig().cooldowns.shutdownDeadline);
+        if (remaining > 0)
+            Logger.get().warn(LOG_PREFIX + "Failed to write cooldowns for {} players before the shutdown deadline.", remaining);
+
         Cooldowns.reset();
     }
 
@@ -49,8 +97,17 @@ public final class CooldownHandler implements Reloadable {
                 if (!p.isOnline())
                     continue;
 
-                Queries.Cooldown.save(p);
+                writeQueue.enqueue(p.getUniqueId());
             }
         };
     }
+
+    private Consumer<ScheduledTask> databasePurgeTask(int chunkSize) {
+        return task -> {
+            int purged;
+            do {
+                purged = Queries.Cooldown.purgeExpired(chunkSize);
+            } while (purged >= chunkSize && !task.isCancelled());
+        };
+    }
 }
@@ -1,5 +1,74 @@
 package io.github.exampleuser.example.cooldown;
 
-public enum CooldownType {
-    EXAMPLE_COOLDOWN,
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A type of cooldown, identified by a unique name and mapped to a small integer id.
+ * <p>
+ * Types are created through {@link CooldownTypeRegistry#register(String)}, either in code or by listing them in the config.
+ * Built-in types are declared here instead, and registered by the registry before any other type.
+ * The id is assigned once by the database and is stable across restarts, so it is used both as the stored column value
+ * and as the index into the in-memory cooldown arrays.
+ * </p>
+ */
+public final class CooldownType {
+    public static final CooldownType EXAMPLE_COOLDOWN = new CooldownType("example_cooldown");
+
+    /**
+     * The built-in types, in registration order.
+     */
+    static final List<CooldownType> BUILTINS = List.of(EXAMPLE_COOLDOWN);
+
+    static final int UNBOUND = -1;
+
+    private final String name;
+    private volatile int id = UNBOUND;
+
+    CooldownType(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the unique name of this type.
+     *
+     * @return the name
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * Gets the id of this type.
+     *
+     * @return the id
+     * @throws IllegalStateException if the type has not been bound to an id yet
+     */
+    public int id() {
+        final int id = this.id;
+        if (id == UNBOUND)
+            throw new IllegalStateException("Cooldown type '" + name + "' has not been bound to an id yet!");
+        return id;
+    }
+
+    /**
+     * Returns if this type has been bound to an id.
+     *
+     * @return true if the type is bound
+     */
+    public boolean isBound() {
+        return id != UNBOUND;
+    }
+
+    @ApiStatus.Internal
+    void bind(int id) {
+        this.id = id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
 }
@@ -0,0 +1,171 @@
+package io.github.exampleuser.example.cooldown;
+
+import io.github.exampleuser.example.database.Queries;
+import io.github.exampleuser.example.utility.Logger;
+import io.github.milkdrinkers.threadutil.Scheduler;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of all known {@link CooldownType}s.
+ * <p>
+ * Types may be registered at any time. Ids are assigned from the {@code cooldown_types} table when
+ * {@link #bind()} is called during startup, types registered after that are bound asynchronously.
+ * The built-in types declared in {@link CooldownType} are always registered first.
+ * </p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * public static final CooldownType TELEPORT = CooldownTypeRegistry.register("teleport");
+ * }</pre>
+ */
+public final class CooldownTypeRegistry {
+    private static final String LOG_PREFIX = "[Cooldowns] ";
+    private static final Pattern VALID_NAME = Pattern.compile("[a-z0-9_\\-]{1,64}");
+    private static final int MAX_BIND_ATTEMPTS = 5;
+
+    private static final Map<String, CooldownType> BY_NAME = new ConcurrentHashMap<>();
+    private static volatile CooldownType[] byId = new CooldownType[0];
+    private static volatile boolean bound = false;
+
+    static {
+        registerBuiltins();
+    }
+
+    private CooldownTypeRegistry() {
+    }
+
+    /**
+     * Registers the built-in types, before any other type can be registered.
+     */
+    private static void registerBuiltins() {
+        for (final CooldownType type : CooldownType.BUILTINS)
+            BY_NAME.put(type.name(), type);
+    }
+
+    /**
+     * Registers a cooldown type, or returns the existing type if one with the same name is already registered.
+     *
+     * @param name the type name, consisting of lowercase letters, digits, underscores or dashes
+     * @return the cooldown type
+     * @throws IllegalArgumentException if the name is invalid
+     * @implNote Types registered after startup are bound in the background, {@link CooldownType#id()} throws until
+     * {@link CooldownType#isBound()} returns true.
+     */
+    public static @NotNull CooldownType register(@NotNull String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        if (!VALID_NAME.matcher(key).matches())
+            throw new IllegalArgumentException("Invalid cooldown type name '" + name + "'!");
+
+        final CooldownType type = BY_NAME.computeIfAbsent(key, CooldownType::new);
+        if (bound && !type.isBound())
+            Scheduler.async(() -> {
+                bind();
+            }).execute();
+        return type;
+    }
+
+    /**
+     * Gets a registered cooldown type by name.
+     *
+     * @param name the type name
+     * @return the cooldown type, or null if none is registered with that name
+     */
+    public static @Nullable CooldownType get(@NotNull String name) {
+        return BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets a bound cooldown type by id.
+     *
+     * @param id the type id
+     * @return the cooldown type, or null if no registered type is bound to that id
+     */
+    public static @Nullable CooldownType byId(int id) {
+        final CooldownType[] types = byId;
+        return id >= 0 && id < types.length ? types[id] : null;
+    }
+
+    /**
+     * Gets all registered cooldown types.
+     *
+     * @return an unmodifiable view of the registered types
+     */
+    public static @NotNull Collection<CooldownType> values() {
+        return Collections.unmodifiableCollection(BY_NAME.values());
+    }
+
+    /**
+     * Gets the highest id bound to a registered type.
+     *
+     * @return the highest id, or -1 if no type is bound
+     */
+    public static int maxId() {
+        return byId.length - 1;
+    }
+
+    /**
+     * Binds every registered type to its id in the database, assigning new ids to types that have none yet.
+     * <p>
+     * Called while the plugin loads, once the database has started. Cooldowns cannot be used until then, as
+     * {@link CooldownType#id()} throws for unbound types. Inserts can race with other servers sharing the database,
+     * in which case the stored ids are re-read and the insert is retried.
+     * </p>
+     *
+     * @return true if every registered type was bound
+     * @implNote This method performs blocking database queries and must not be called on the main thread after startup.
+     */
+    @ApiStatus.Internal
+    public static synchronized boolean bind() {
+        for (int attempt = 0; attempt < MAX_BIND_ATTEMPTS; attempt++) {
+            final Map<String, Integer> stored = Queries.Cooldown.loadTypes();
+            if (stored == null)
+                break;
+
+            int nextId = stored.values().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+            boolean conflict = false;
+            for (final CooldownType type : BY_NAME.values()) {
+                final Integer id = stored.get(type.name());
+                if (id != null) {
+                    index(type, id);
+                    continue;
+                }
+
+                if (!Queries.Cooldown.insertType(nextId, type.name())) {
+                    conflict = true;
+                    break;
+                }
+                index(type, nextId++);
+            }
+
+            if (!conflict) {
+                bound = true;
+                return true;
+            }
+        }
+
+        Logger.get().error(LOG_PREFIX + "Failed to bind cooldown types to ids!");
+        return false;
+    }
+
+    private static void index(CooldownType type, int id) {
+        type.bind(id);
+
+        CooldownType[] types = byId;
+        if (id >= types.length)
+            types = Arrays.copyOf(types, id + 1);
+        else
+            types = types.clone();
+        types[id] = type;
+        byId = types;
+    }
+}
@@ -1,8 +1,5 @@
 package io.github.exampleuser.example.cooldown;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
-import com.google.common.collect.Tables;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -10,7 +7,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -66,12 +69,15 @@ public final class Cooldowns {
     /**
      * Internal storage implementation for cooldowns.
      * <p>
-     * This class uses a synchronized Guava Table to store cooldown data,
-     * ensuring thread safety for concurrent operations.
+     * Each player maps to an array of expiration times in epoch milliseconds, indexed by {@link CooldownType#id()},
+     * where {@code 0} means no cooldown. Arrays are copied on write and swapped atomically, so reads never lock.
      * </p>
      */
     private static final class CooldownStorage {
-        private final Table<UUID, CooldownType, Instant> cooldowns = Tables.synchronizedTable(HashBasedTable.create());
+        private static final long NONE = 0L;
+
+        private final Map<UUID, long[]> cooldowns = new ConcurrentHashMap<>();
+        private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
 
         private CooldownStorage() {
         }
@@ -86,7 +92,34 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant set(UUID uuid, CooldownType type, Instant expiresAt) {
-            return cooldowns.put(uuid, type, expiresAt);
+            final int id = type.id();
+            final long millis = expiresAt.toEpochMilli();
+            final long[] previous = {NONE};
+            cooldowns.compute(uuid, (key, row) -> {
+                final long[] updated;
+                if (row == null) {
+                    updated = new long[id + 1];
+                } else {
+                    updated = Arrays.copyOf(row, Math.max(row.length, id + 1));
+                    previous[0] = id < row.length ? row[id] : NONE;
+                }
+                updated[id] = millis;
+                return updated;
+            });
+            return toInstant(previous[0]);
+        }
+
+        /**
+         * Gets the cooldown expiration time for a specific player and type in epoch milliseconds.
+         *
+         * @param uuid the player's UUID
+         * @param type the cooldown type
+         * @return the cooldown expiration time, or {@code 0} if no cooldown exists
+         */
+        public long getMillis(UUID uuid, CooldownType type) {
+            final long[] row = cooldowns.get(uuid);
+            final int id = type.id();
+            return row != null && id < row.length ? row[id] : NONE;
         }
 
         /**
@@ -98,7 +131,7 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant get(UUID uuid, CooldownType type) {
-            return cooldowns.get(uuid, type);
+            return toInstant(getMillis(uuid, type));
         }
 
         /**
@@ -109,8 +142,7 @@ public final class Cooldowns {
          * @return true if the player has an active cooldown, false otherwise
          */
         public boolean has(UUID uuid, CooldownType type) {
-            final @Nullable Instant cooldown = cooldowns.get(uuid, type);
-            return cooldown != null && Instant.now().isBefore(cooldown);
+            return getMillis(uuid, type) > System.currentTimeMillis();
         }
 
         /**
@@ -122,7 +154,28 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant remove(UUID uuid, CooldownType type) {
-            return cooldowns.remove(uuid, type);
+            final int id = type.id();
+            final long[] previous = {NONE};
+            cooldowns.computeIfPresent(uuid, (key, row) -> {
+                if (id >= row.length || row[id] == NONE)
+                    return row;
+
+                previous[0] = row[id];
+                final long[] updated = row.clone();
+                updated[id] = NONE;
+                return isEmpty(updated) ? null : updated;
+            });
+            return toInstant(previous[0]);
+        }
+
+        /**
+         * Checks if a player has any cooldowns stored, including expired cooldowns not yet purged.
+         *
+         * @param uuid the player's UUID
+         * @return true if the player has any cooldowns stored
+         */
+        public boolean hasAny(UUID uuid) {
+            return cooldowns.containsKey(uuid); // Rows are removed once they hold no cooldowns
         }
 
         /**
@@ -131,7 +184,65 @@ public final class Cooldowns {
          * @param uuid the player's UUID
          */
         public void removeAll(UUID uuid) {
-            cooldowns.row(uuid).clear();
+            cooldowns.remove(uuid);
+        }
+
+        /**
+         * Gets a snapshot of all active cooldowns for a specific player.
+         *
+         * @param uuid the player's UUID
+         * @return a mutable copy of the player's active cooldowns
+         */
+        public Map<CooldownType, Instant> getAll(UUID uuid) {
+            final Map<CooldownType, Instant> snapshot = new HashMap<>();
+            final long[] row = cooldowns.get(uuid);
+            if (row == null)
+                return snapshot;
+
+            final long now = System.currentTimeMillis();
+            for (int id = 0; id < row.length; id++) {
+                if (row[id] <= now)
+                    continue;
+
+                final CooldownType type = CooldownTypeRegistry.byId(id);
+                if (type != null)
+                    snapshot.put(type, Instant.ofEpochMilli(row[id]));
+            }
+            return snapshot;
+        }
+
+        /**
+         * Removes every expired cooldown for all players.
+         */
+        public void purgeExpired() {
+            final long now = System.currentTimeMillis();
+            for (final UUID uuid : cooldowns.keySet()) {
+                cooldowns.computeIfPresent(uuid, (key, row) -> {
+                    boolean changed = false;
+                    final long[] updated = row.clone();
+                    for (int id = 0; id < updated.length; id++) {
+                        if (updated[id] != NONE && updated[id] <= now) {
+                            updated[id] = NONE;
+                            changed = true;
+                        }
+                    }
+                    if (!changed)
+                        return row;
+                    return isEmpty(updated) ? null : updated;
+                });
+            }
+        }
+
+        /**
+         * Notifies all registered listeners of a change.
+         *
+         * @param uuid      the player's UUID
+         * @param type      the cooldown type
+         * @param expiresAt the new expiration time, or null if the cooldown was removed
+         */
+        public void notify(UUID uuid, CooldownType type, @Nullable Instant expiresAt) {
+            for (final ChangeListener listener : listeners)
+                listener.onChange(uuid, type, expiresAt);
         }
 
         /**
@@ -146,12 +257,13 @@ public final class Cooldowns {
          * @return the remaining cooldown duration, or {@link Duration#ZERO} if no active cooldown
          */
         public Duration getRemaining(UUID uuid, CooldownType type) {
-            final Instant cooldown = cooldowns.get(uuid, type);
-            final Instant now = Instant.now();
-            if (cooldown != null && now.isBefore(cooldown)) {
-                return Duration.between(now, cooldown);
+            final long cooldown = getMillis(uuid, type);
+            final long remaining = cooldown - System.currentTimeMillis();
+            if (cooldown != NONE && remaining > 0) {
+                return Duration.ofMillis(remaining);
             } else {
-                remove(uuid, type);
+                if (cooldown != NONE)
+                    remove(uuid, type);
                 return Duration.ZERO;
             }
         }
@@ -172,6 +284,19 @@ public final class Cooldowns {
             final Duration remaining = getRemaining(uuid, type);
             return format.format(remaining);
         }
+
+        @Nullable
+        private static Instant toInstant(long millis) {
+            return millis == NONE ? null : Instant.ofEpochMilli(millis);
+        }
+
+        private static boolean isEmpty(long[] row) {
+            for (final long expiresAt : row) {
+                if (expiresAt != NONE)
+                    return false;
+            }
+            return true;
+        }
     }
 
     /**
@@ -184,7 +309,9 @@ public final class Cooldowns {
      */
     @Nullable
     public static Instant set(UUID uuid, CooldownType type, Instant expiresAt) {
-        return getInstance().set(uuid, type, expiresAt);
+        final Instant previous = getInstance().set(uuid, type, expiresAt);
+        getInstance().notify(uuid, type, expiresAt);
+        return previous;
     }
 
     /**
@@ -226,6 +353,17 @@ public final class Cooldowns {
         return set(uuid, type, Duration.of(amount, unit.toChronoUnit()));
     }
 
+    /**
+     * Gets the cooldown expiration time for a specific player and type in epoch milliseconds, without allocating.
+     *
+     * @param uuid the player's UUID
+     * @param type the cooldown type
+     * @return the cooldown expiration time, or {@code 0} if no cooldown exists
+     */
+    public static long getMillis(UUID uuid, CooldownType type) {
+        return getInstance().getMillis(uuid, type);
+    }
+
     /**
      * Checks if a player has an active cooldown for a specific type.
      *
@@ -246,7 +384,21 @@ public final class Cooldowns {
      */
     @Nullable
     public static Instant remove(UUID uuid, CooldownType type) {
-        return getInstance().remove(uuid, type);
+        final Instant previous = getInstance().remove(uuid, type);
+        if (previous != null)
+            getInstance().notify(uuid, type, null);
+        return previous;
+    }
+
+    /**
+     * Checks if a player has any cooldowns stored, including expired cooldowns not yet purged.
+     *
+     * @param uuid the player's UUID
+     * @return true if the player has any cooldowns stored
+     */
+    @ApiStatus.Internal
+    public static boolean hasAny(UUID uuid) {
+        return getInstance().hasAny(uuid);
     }
 
     /**
@@ -258,6 +410,67 @@ public final class Cooldowns {
         getInstance().removeAll(uuid);
     }
 
+    /**
+     * Gets a snapshot of all active cooldowns for a specific player.
+     *
+     * @param uuid the player's UUID
+     * @return a mutable copy of the player's active cooldowns
+     */
+    public static Map<CooldownType, Instant> getAll(UUID uuid) {
+        return getInstance().getAll(uuid);
+    }
+
+    /**
+     * Sets or removes a cooldown without notifying any {@link ChangeListener}.
+     * <p>
+     * Used when applying state that originated elsewhere, such as the database or another server,
+     * so it is not published again.
+     * </p>
+     *
+     * @param uuid      the player's UUID
+     * @param type      the cooldown type
+     * @param expiresAt the instant when the cooldown expires, or null to remove the cooldown
+     */
+    @ApiStatus.Internal
+    public static void apply(UUID uuid, CooldownType type, @Nullable Instant expiresAt) {
+        if (expiresAt == null) {
+            getInstance().remove(uuid, type);
+        } else {
+            getInstance().set(uuid, type, expiresAt);
+        }
+    }
+
+    /**
+     * Removes every expired cooldown for all players.
+     */
+    @ApiStatus.Internal
+    public static void purgeExpired() {
+        getInstance().purgeExpired();
+    }
+
+    /**
+     * Registers a listener that is notified whenever a cooldown is set or removed through this class.
+     * <p>
+     * Listeners are cleared by {@link #reset()}.
+     * </p>
+     *
+     * @param listener the listener
+     */
+    @ApiStatus.Internal
+    public static void addChangeListener(ChangeListener listener) {
+        getInstance().listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param listener the listener
+     */
+    @ApiStatus.Internal
+    public static void removeChangeListener(ChangeListener listener) {
+        getInstance().listeners.remove(listener);
+    }
+
     /**
      * Gets the cooldown expiration time for a specific player and type.
      *
@@ -435,81 +648,50 @@ public final class Cooldowns {
         return formatRemaining(player.getUniqueId(), type);
     }
 
+    /**
+     * Listener notified when a cooldown is set or removed.
+     * <p>
+     * Bulk operations such as {@link #removeAll(UUID)}, expiry and {@link #apply(UUID, CooldownType, Instant)} do not notify listeners.
+     * </p>
+     */
+    @ApiStatus.Internal
+    @FunctionalInterface
+    public interface ChangeListener {
+        /**
+         * Called after a cooldown has changed.
+         *
+         * @param uuid      the player's UUID
+         * @param type      the cooldown type
+         * @param expiresAt the new expiration time, or null if the cooldown was removed
+         */
+        void onChange(UUID uuid, CooldownType type, @Nullable Instant expiresAt);
+    }
+
     /**
      * Enum for different time formatting styles.
+     * <p>
+     * Rendering is delegated to the active {@link DurationFormatter}, use
+     * {@link #appendTo(StringBuilder, Duration)} to avoid allocating an intermediate string.
+     * </p>
      */
     public enum TimeFormat {
         /**
          * Detailed format showing hours, minutes, and seconds.
          * Example: "1 hour, 30 minutes, and 45 seconds"
          */
-        DETAILED {
-            @Override
-            public String format(Duration duration) {
-                if (duration.isZero()) {
-                    return "0 seconds";
-                }
-
-                final long hours = duration.toHours();
-                final long minutes = duration.toMinutesPart();
-                final long seconds = duration.toSecondsPart();
-
-                if (hours > 0) {
-                    return String.format("%d hour%s, %d minute%s, and %d second%s",
-                        hours, hours == 1 ? "" : "s",
-                        minutes, minutes == 1 ? "" : "s",
-                        seconds, seconds == 1 ? "" : "s");
-                } else if (minutes > 0) {
-                    return String.format("%d minute%s and %d second%s",
-                        minutes, minutes == 1 ? "" : "s",
-                        seconds, seconds == 1 ? "" : "s");
-                } else {
-                    return String.format("%d second%s", seconds, seconds == 1 ? "" : "s");
-                }
-            }
-        },
+        DETAILED,
 
         /**
          * Compact format using abbreviations.
          * Example: "1h 30m 45s"
          */
-        COMPACT {
-            @Override
-            public String format(Duration duration) {
-                if (duration.isZero()) {
-                    return "0s";
-                }
-
-                final long hours = duration.toHours();
-                final long minutes = duration.toMinutesPart();
-                final long seconds = duration.toSecondsPart();
-
-                StringBuilder sb = new StringBuilder();
-                if (hours > 0) {
-                    sb.append(hours).append("h ");
-                }
-                if (minutes > 0) {
-                    sb.append(minutes).append("m ");
-                }
-                if (seconds > 0) {
-                    sb.append(seconds).append("s");
-                }
-
-                return sb.toString().trim();
-            }
-        },
+        COMPACT,
 
         /**
          * Seconds-only format.
          * Example: "3645 seconds"
          */
-        SECONDS_ONLY {
-            @Override
-            public String format(Duration duration) {
-                final long seconds = duration.getSeconds();
-                return seconds + " second" + (seconds == 1 ? "" : "s");
-            }
-        };
+        SECONDS_ONLY;
 
         /**
          * Formats the given duration according to this format style.
@@ -517,6 +699,19 @@ public final class Cooldowns {
          * @param duration the duration to format
          * @return the formatted string representation
          */
-        public abstract String format(Duration duration);
+        public String format(Duration duration) {
+            return DurationFormatter.get().format(duration.getSeconds(), this);
+        }
+
+        /**
+         * Appends the given duration to the builder according to this format style.
+         *
+         * @param sb       the builder to append to
+         * @param duration the duration to format
+         * @return the same builder
+         */
+        public StringBuilder appendTo(StringBuilder sb, Duration duration) {
+            return DurationFormatter.get().appendTo(sb, duration, this);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package io.github.exampleuser.example.cooldown;
+
+import io.github.milkdrinkers.wordweaver.Translation;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Renders durations into human-readable text for each {@link Cooldowns.TimeFormat}.
+ * <p>
+ * All unit names and separators are resolved once when the formatter is created, and numbers are appended directly
+ * into the target {@link StringBuilder}, so rendering into a caller-supplied builder performs no allocations.
+ * </p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * final StringBuilder sb = new StringBuilder("Wait ");
+ * DurationFormatter.get().appendTo(sb, Cooldowns.getRemaining(player, type), Cooldowns.TimeFormat.COMPACT);
+ * }</pre>
+ */
+public final class DurationFormatter {
+    private static final String TRANSLATION_PREFIX = "cooldowns.format.";
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    /**
+     * The built-in English formatter, used until translations are loaded.
+     */
+    public static final DurationFormatter ENGLISH = new DurationFormatter(
+        "hour", "hours",
+        "minute", "minutes",
+        "second", "seconds",
+        ", ", ", and ", " and ",
+        "h", "m", "s", " "
+    );
+
+    private static volatile DurationFormatter instance = ENGLISH;
+
+    private final String hour, hours;
+    private final String minute, minutes;
+    private final String second, seconds;
+    private final String separator, lastSeparator, pairSeparator;
+    private final String compactHour, compactMinute, compactSecond, compactSeparator;
+
+    private DurationFormatter(
+        String hour, String hours,
+        String minute, String minutes,
+        String second, String seconds,
+        String separator, String lastSeparator, String pairSeparator,
+        String compactHour, String compactMinute, String compactSecond, String compactSeparator
+    ) {
+        this.hour = ' ' + hour; // Unit strings are stored with their leading space to save an append
+        this.hours = ' ' + hours;
+        this.minute = ' ' + minute;
+        this.minutes = ' ' + minutes;
+        this.second = ' ' + second;
+        this.seconds = ' ' + seconds;
+        this.separator = separator;
+        this.lastSeparator = lastSeparator;
+        this.pairSeparator = pairSeparator;
+        this.compactHour = compactHour;
+        this.compactMinute = compactMinute;
+        this.compactSecond = compactSecond;
+        this.compactSeparator = compactSeparator;
+    }
+
+    /**
+     * Gets the active formatter.
+     *
+     * @return the formatter
+     */
+    public static @NotNull DurationFormatter get() {
+        return instance;
+    }
+
+    /**
+     * Rebuilds the active formatter from the loaded translations, falling back to English for missing entries.
+     * <p>
+     * Must be called after translations are (re)loaded.
+     * </p>
+     */
+    @ApiStatus.Internal
+    public static void loadTranslations() {
+        instance = new DurationFormatter(
+            translate("hour", "hour"), translate("hours", "hours"),
+            translate("minute", "minute"), translate("minutes", "minutes"),
+            translate("second", "second"), translate("seconds", "seconds"),
+            translate("separator", ", "), translate("last-separator", ", and "), translate("pair-separator", " and "),
+            translate("compact-hour", "h"), translate("compact-minute", "m"), translate("compact-second", "s"), translate("compact-separator", " ")
+        );
+    }
+
+    private static String translate(String key, String fallback) {
+        final @Nullable String value = Translation.of(TRANSLATION_PREFIX + key);
+        return value == null ? fallback : value;
+    }
+
+    /**
+     * Appends the duration to the builder.
+     *
+     * @param sb       the builder to append to
+     * @param duration the duration
+     * @param format   the format style
+     * @return the same builder
+     */
+    public @NotNull StringBuilder appendTo(@NotNull StringBuilder sb, @NotNull Duration duration, @NotNull Cooldowns.TimeFormat format) {
+        return appendTo(sb, duration.getSeconds(), format);
+    }
+
+    /**
+     * Appends the duration to the builder.
+     *
+     * @param sb           the builder to append to
+     * @param totalSeconds the duration in whole seconds
+     * @param format       the format style
+     * @return the same builder
+     */
+    public @NotNull StringBuilder appendTo(@NotNull StringBuilder sb, long totalSeconds, @NotNull Cooldowns.TimeFormat format) {
+        final long h = totalSeconds / 3600;
+        final long m = (totalSeconds / 60) % 60;
+        final long s = totalSeconds % 60;
+
+        switch (format) {
+            case DETAILED -> {
+                if (h > 0) {
+                    sb.append(h).append(h == 1 ? hour : hours).append(separator)
+                        .append(m).append(m == 1 ? minute : minutes).append(lastSeparator)
+                        .append(s).append(s == 1 ? second : seconds);
+                } else if (m > 0) {
+                    sb.append(m).append(m == 1 ? minute : minutes).append(pairSeparator)
+                        .append(s).append(s == 1 ? second : seconds);
+                } else {
+                    sb.append(s).append(s == 1 ? second : seconds);
+                }
+            }
+            case COMPACT -> {
+                if (totalSeconds <= 0) {
+                    sb.append(0).append(compactSecond);
+                    break;
+                }
+
+                boolean first = true;
+                if (h > 0) {
+                    sb.append(h).append(compactHour);
+                    first = false;
+                }
+                if (m > 0) {
+                    if (!first)
+                        sb.append(compactSeparator);
+                    sb.append(m).append(compactMinute);
+                    first = false;
+                }
+                if (s > 0) {
+                    if (!first)
+                        sb.append(compactSeparator);
+                    sb.append(s).append(compactSecond);
+                }
+            }
+            case SECONDS_ONLY -> sb.append(totalSeconds).append(totalSeconds == 1 ? second : seconds);
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the duration to the component builder as a single text child.
+     *
+     * @param builder  the builder to append to
+     * @param duration the duration
+     * @param format   the format style
+     * @return the same builder
+     */
+    public @NotNull TextComponent.Builder appendTo(@NotNull TextComponent.Builder builder, @NotNull Duration duration, @NotNull Cooldowns.TimeFormat format) {
+        return builder.append(Component.text(format(duration.getSeconds(), format)));
+    }
+
+    /**
+     * Formats the duration into a new string, reusing a per-thread buffer.
+     *
+     * @param totalSeconds the duration in whole seconds
+     * @param format       the format style
+     * @return the formatted string
+     */
+    public @NotNull String format(long totalSeconds, @NotNull Cooldowns.TimeFormat format) {
+        final StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return appendTo(sb, totalSeconds, format).toString();
+    }
+}
@@ -1,27 +1,50 @@
 package io.github.exampleuser.example.cooldown.listener;
 
 import io.github.exampleuser.example.AbstractExample;
+import io.github.exampleuser.example.cooldown.CooldownType;
 import io.github.exampleuser.example.cooldown.Cooldowns;
+import io.github.exampleuser.example.cooldown.persistence.CooldownWriteQueue;
+import io.github.exampleuser.example.cooldown.sync.CooldownReplicator;
 import io.github.exampleuser.example.database.Queries;
 import io.github.milkdrinkers.threadutil.Scheduler;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
 
 @SuppressWarnings({"unused", "FieldCanBeLocal", "CodeBlock2Expr"})
 class CooldownListener implements Listener {
     private final AbstractExample plugin;
+    private final CooldownWriteQueue writeQueue;
+    private final @Nullable CooldownReplicator replicator;
 
-    public CooldownListener(AbstractExample plugin) {
+    public CooldownListener(AbstractExample plugin, CooldownWriteQueue writeQueue, @Nullable CooldownReplicator replicator) {
         this.plugin = plugin;
+        this.writeQueue = writeQueue;
+        this.replicator = replicator;
     }
 
     @EventHandler
     public void onJoin(PlayerJoinEvent e) {
+        final UUID uuid = e.getPlayer().getUniqueId();
         Scheduler.async(() -> {
-                Queries.Cooldown.load(e.getPlayer()).forEach((cooldownType, instant) -> {
-                    Cooldowns.set(e.getPlayer(), cooldownType, instant);
+                // The snapshot taken when the player last quit may not be written yet
+                final @Nullable Map<CooldownType, Instant> unwritten = writeQueue.flush(uuid);
+
+                if (replicator != null) {
+                    replicator.loadIfUnknown(uuid);
+                    return;
+                }
+
+                // A snapshot that could not be written is more recent than anything stored
+                final Map<CooldownType, Instant> cooldowns = unwritten != null ? unwritten : Queries.Cooldown.load(uuid);
+                cooldowns.forEach((cooldownType, instant) -> {
+                    Cooldowns.apply(uuid, cooldownType, instant);
                 });
             })
             .execute();
@@ -30,10 +53,8 @@ class CooldownListener implements Listener {
 
     @EventHandler
     public void onQuit(PlayerQuitEvent e) {
-        Scheduler.async(() -> {
-                Queries.Cooldown.save(e.getPlayer());
-                Cooldowns.removeAll(e.getPlayer());
-            })
-            .execute();
+        writeQueue.enqueue(e.getPlayer().getUniqueId());
+        if (replicator == null) // Replicated cooldowns are kept in memory so they stay current while the player is elsewhere
+            Cooldowns.removeAll(e.getPlayer());
     }
 }
@@ -2,7 +2,10 @@ package io.github.exampleuser.example.cooldown.listener;
 
 import io.github.exampleuser.example.AbstractExample;
 import io.github.exampleuser.example.Reloadable;
+import io.github.exampleuser.example.cooldown.persistence.CooldownWriteQueue;
+import io.github.exampleuser.example.cooldown.sync.CooldownReplicator;
 import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,10 +16,14 @@ import java.util.List;
 @SuppressWarnings("FieldCanBeLocal")
 public class ListenerHandler implements Reloadable {
     private final AbstractExample plugin;
+    private final CooldownWriteQueue writeQueue;
+    private final @Nullable CooldownReplicator replicator;
     private final List<Listener> listeners = new ArrayList<>();
 
-    public ListenerHandler(AbstractExample plugin) {
+    public ListenerHandler(AbstractExample plugin, CooldownWriteQueue writeQueue, @Nullable CooldownReplicator replicator) {
         this.plugin = plugin;
+        this.writeQueue = writeQueue;
+        this.replicator = replicator;
     }
 
     @Override
@@ -26,7 +33,9 @@ public class ListenerHandler implements Reloadable {
     @Override
     public void onEnable(AbstractExample plugin) {
         listeners.clear();
-        listeners.add(new CooldownListener(plugin));
+        listeners.add(new CooldownListener(plugin, writeQueue, replicator));
+        if (replicator != null)
+            listeners.add(replicator);
 
         for (Listener listener : listeners) {
             plugin.getServer().getPluginManager().registerEvents(listener, plugin);
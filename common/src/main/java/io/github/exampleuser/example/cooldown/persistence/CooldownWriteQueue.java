@@ -0,0 +1,162 @@
+package io.github.exampleuser.example.cooldown.persistence;
+
+import io.github.exampleuser.example.cooldown.CooldownType;
+import io.github.exampleuser.example.cooldown.Cooldowns;
+import io.github.exampleuser.example.database.Queries;
+import io.github.exampleuser.example.utility.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A write-behind queue persisting player cooldowns to the database.
+ * <p>
+ * Enqueuing a player takes a snapshot of their active cooldowns. Writes are coalesced per player, so only the
+ * most recent snapshot is ever written, and a single writer thread flushes them in batches, each batch using
+ * one connection and one transaction. A burst of enqueues, like every player quitting during a restart, can
+ * therefore never hold more than one pooled connection.
+ * </p>
+ */
+public final class CooldownWriteQueue {
+    private static final String LOG_PREFIX = "[Cooldowns] ";
+
+    private final Map<UUID, Map<CooldownType, Instant>> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private @Nullable ScheduledExecutorService writer;
+    private int batchSize = 100;
+
+    /**
+     * Starts the writer thread.
+     *
+     * @param flushIntervalMillis how often the queue is flushed in milliseconds
+     * @param batchSize           the maximum amount of players written per transaction
+     */
+    public synchronized void start(long flushIntervalMillis, int batchSize) {
+        if (writer != null)
+            return;
+
+        this.batchSize = Math.max(1, batchSize);
+        final long interval = Math.max(1L, flushIntervalMillis);
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "Cooldown-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the writer thread and flushes everything still queued on the calling thread.
+     *
+     * @param deadlineMillis the maximum time to spend flushing in milliseconds
+     * @return the amount of players whose cooldowns could not be written before the deadline
+     */
+    public synchronized int stop(long deadlineMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(deadlineMillis, TimeUnit.MILLISECONDS); // Let an in-flight batch finish
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+
+        synchronized (flushLock) {
+            while (!pending.isEmpty() && System.nanoTime() < deadline) {
+                if (!flushBatch())
+                    break;
+            }
+        }
+
+        return pending.size();
+    }
+
+    /**
+     * Queues the player's current cooldowns to be written, replacing any snapshot still waiting to be written.
+     *
+     * @param uuid the player's UUID
+     */
+    public void enqueue(@NotNull UUID uuid) {
+        pending.put(uuid, Cooldowns.getAll(uuid));
+    }
+
+    /**
+     * Writes the player's queued snapshot now instead of on the next flush, waiting for any batch being written.
+     * <p>
+     * Call this before loading a player's cooldowns from the database. A player rejoining before the snapshot taken
+     * when they quit is written would otherwise load older cooldowns, and have them overwritten by the snapshot later.
+     * </p>
+     *
+     * @param uuid the player's UUID
+     * @return the snapshot if it could not be written, which is still queued and more recent than the database,
+     * or null if nothing is left to write
+     * @implNote This method performs a blocking database query and must not be called on the main thread.
+     */
+    public @Nullable Map<CooldownType, Instant> flush(@NotNull UUID uuid) {
+        synchronized (flushLock) {
+            final Map<CooldownType, Instant> snapshot = pending.remove(uuid);
+            if (snapshot == null || Queries.Cooldown.saveAll(Map.of(uuid, snapshot)))
+                return null;
+
+            pending.putIfAbsent(uuid, snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Gets the amount of players waiting to be written.
+     *
+     * @return the queue size
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    private void drain() {
+        synchronized (flushLock) {
+            while (!pending.isEmpty()) {
+                if (!flushBatch())
+                    return; // Retry on the next run
+            }
+        }
+    }
+
+    /**
+     * Writes up to {@link #batchSize} queued players in a single transaction.
+     *
+     * @return false if the write failed, in which case the batch is queued again
+     */
+    private boolean flushBatch() {
+        final Map<UUID, Map<CooldownType, Instant>> batch = new HashMap<>();
+        for (final UUID uuid : pending.keySet()) {
+            if (batch.size() >= batchSize)
+                break;
+
+            final Map<CooldownType, Instant> snapshot = pending.remove(uuid);
+            if (snapshot != null)
+                batch.put(uuid, snapshot);
+        }
+
+        if (batch.isEmpty())
+            return true;
+
+        if (Queries.Cooldown.saveAll(batch))
+            return true;
+
+        // Requeue without overwriting newer snapshots enqueued in the meantime
+        batch.forEach(pending::putIfAbsent);
+        Logger.get().warn(LOG_PREFIX + "Failed to write cooldowns for {} players, they will be retried.", batch.size());
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.exampleuser.example.cooldown.sync;
+
+import io.github.exampleuser.example.cooldown.CooldownType;
+import io.github.exampleuser.example.cooldown.CooldownTypeRegistry;
+import io.github.exampleuser.example.cooldown.Cooldowns;
+import io.github.exampleuser.example.database.Queries;
+import io.github.exampleuser.example.messaging.adapter.receiver.event.MessageReceivedEvent;
+import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
+import io.github.exampleuser.example.messaging.message.Message;
+import io.github.exampleuser.example.utility.Messaging;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replicates cooldown changes between servers using the messaging broker.
+ * <p>
+ * Local calls to {@link Cooldowns#set} and {@link Cooldowns#remove} are published as {@link CooldownUpdate} deltas,
+ * and deltas received from other servers are applied without being published again.
+ * Because every server keeps its cooldowns in sync, the database only has to be read the first time a player
+ * is seen after startup, or again once all their cooldowns have expired.
+ * </p>
+ */
+public final class CooldownReplicator implements Cooldowns.ChangeListener, Listener {
+    public static final String CHANNEL = "cooldown-sync";
+
+    private final Set<UUID> known = ConcurrentHashMap.newKeySet(); // Players whose database state has been merged and who still have cooldowns in memory
+
+    @Override
+    public void onChange(UUID uuid, CooldownType type, @Nullable Instant expiresAt) {
+        if (!Messaging.isReady())
+            return;
+
+        Messaging.send(
+            BidirectionalMessage.<CooldownUpdate>builder()
+                .channelId(CHANNEL)
+                .payload(new CooldownUpdate(uuid, type.id(), expiresAt == null ? CooldownUpdate.REMOVED : expiresAt.toEpochMilli()))
+                .build()
+        );
+    }
+
+    @EventHandler
+    public void onMessage(MessageReceivedEvent e) {
+        final Message<?> message = e.getMessage();
+        if (!message.getChannelID().equals(CHANNEL) || !(message.getPayload() instanceof CooldownUpdate update))
+            return;
+
+        final CooldownType type = CooldownTypeRegistry.byId(update.type());
+        if (type == null)
+            return; // Type is not registered on this server
+
+        Cooldowns.apply(update.uuid(), type, update.isRemoval() ? null : Instant.ofEpochMilli(update.expiresAt()));
+    }
+
+    /**
+     * Loads a player's cooldowns from the database unless they have already been loaded since startup.
+     * <p>
+     * Stored cooldowns are merged with the in-memory state, keeping whichever expires later.
+     * </p>
+     *
+     * @param uuid the player's UUID
+     * @implNote This method performs a blocking database query and must not be called on the main thread.
+     */
+    public void loadIfUnknown(@NotNull UUID uuid) {
+        if (known.contains(uuid))
+            return;
+
+        final Map<CooldownType, Instant> stored = Queries.Cooldown.load(uuid);
+        stored.forEach((type, expiresAt) -> {
+            final Instant current = Cooldowns.get(uuid, type);
+            if (current == null || expiresAt.isAfter(current))
+                Cooldowns.apply(uuid, type, expiresAt);
+        });
+        known.add(uuid);
+    }
+
+    /**
+     * Removes every expired cooldown for all players, and forgets players left without cooldowns.
+     * <p>
+     * Once a player has no cooldowns in memory, none of their stored cooldowns are active either, so they can be
+     * forgotten and loaded again on their next join. This keeps the set of loaded players from growing with every
+     * player seen since startup.
+     * </p>
+     */
+    public void purgeExpired() {
+        Cooldowns.purgeExpired();
+        known.removeIf(uuid -> !Cooldowns.hasAny(uuid));
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.exampleuser.example.cooldown.sync;
+
+import io.github.exampleuser.example.messaging.message.MessagePayload;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * A cooldown delta replicated between servers, encoded by its generated {@code CooldownUpdateCodec}.
+ *
+ * @param uuid      the player's UUID
+ * @param type      the cooldown type id
+ * @param expiresAt the expiration time in epoch milliseconds, or {@link #REMOVED} if the cooldown was removed
+ */
+@MessagePayload
+public record CooldownUpdate(@NotNull UUID uuid, int type, long expiresAt) {
+    /**
+     * Sentinel expiration time signalling the cooldown was removed.
+     */
+    public static final long REMOVED = 0L;
+
+    public boolean isRemoval() {
+        return expiresAt == REMOVED;
+    }
+}
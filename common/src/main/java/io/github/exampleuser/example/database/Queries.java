@@ -1,9 +1,13 @@
 package io.github.exampleuser.example.database;
 
 import io.github.exampleuser.example.cooldown.CooldownType;
+import io.github.exampleuser.example.cooldown.CooldownTypeRegistry;
 import io.github.exampleuser.example.cooldown.Cooldowns;
-import io.github.exampleuser.example.database.handler.DatabaseType;
+import io.github.exampleuser.example.database.jooq.BulkUpsert;
+import io.github.exampleuser.example.database.jooq.UpsertReturning;
+import io.github.exampleuser.example.database.schema.tables.records.CooldownTypesRecord;
 import io.github.exampleuser.example.database.schema.tables.records.CooldownsRecord;
+import io.github.exampleuser.example.database.schema.tables.records.SomeListRecord;
 import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
 import io.github.exampleuser.example.messaging.message.Message;
 import io.github.exampleuser.example.messaging.message.OutgoingMessage;
@@ -14,13 +18,15 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.*;
+import org.jooq.exception.DataAccessException;
 
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static io.github.exampleuser.example.database.QueryUtils.UUIDUtil;
 import static io.github.exampleuser.example.database.schema.Tables.*;
@@ -69,26 +75,20 @@ public final class Queries {
         ) {
             DSLContext context = DB.getContext(con);
 
-            // jOOQ is broken in implementation when returning auto-increment field for SQLite!
-            // We need to use the returning result for all RDBMS's except SQLite, where we use "#lastID()" instead.
-            @Nullable Record1<Integer> record = context
-                .insertInto(COLORS, COLORS.SOME_FIELD, COLORS.ENABLED)
-                .values(
-                    "testname",
-                    QueryUtils.BooleanUtil.toByte(true)
-                )
-                .onDuplicateKeyUpdate()
-                .set(COLORS.SOME_FIELD, "testname")
-                .returningResult(COLORS.COLOR_ID) // Return the auto-incrementing id from the db
-                .fetchOne();
-
-            if (!DB.getHandler().getDatabaseConfig().getDatabaseType().equals(DatabaseType.SQLITE) && record != null && record.component1() != null) {
-                return BigInteger.valueOf(record.component1()); // For H2, MySQL, MariaDB
-            } else {
-                return context.lastID(); // For SQLite
-            }
+            // Fetches the key in the same statement, see UpsertReturning for how each RDBMS does so
+            final @Nullable Integer id = UpsertReturning.fetchKey(context, context
+                    .insertInto(COLORS, COLORS.SOME_FIELD, COLORS.ENABLED)
+                    .values(
+                        "testname",
+                        QueryUtils.BooleanUtil.toByte(true)
+                    )
+                    .onDuplicateKeyUpdate()
+                    .set(COLORS.SOME_FIELD, "testname"),
+                COLORS.COLOR_ID // Return the auto-incrementing id from the db
+            );
 
-        } catch (SQLException e) {
+            return id == null ? null : BigInteger.valueOf(id);
+        } catch (SQLException | DataAccessException e) {
             Logger.get().error("SQL Query threw an error!", e);
         }
         return null;
@@ -97,8 +97,8 @@ public final class Queries {
     /**
      * Example save all data to database.
      * <p>
-     * Batch executes multiple upserts.
-     * Read <a href="https://www.jooq.org/doc/latest/manual/sql-execution/batch-execution/">jOOQ Batch Documentation</a> for more info.
+     * Upserts all records using multi-row statements, see {@link BulkUpsert}. Prefer this over
+     * {@link DSLContext#batch(Query...)} of individual upserts, which some drivers send as separate statements.
      */
     public static void saveAll() {
         try (
@@ -106,27 +106,13 @@ public final class Queries {
         ) {
             DSLContext context = DB.getContext(con);
 
-            context
-                .batch(
-                    context
-                        .insertInto(SOME_LIST, SOME_LIST.UUID, SOME_LIST._NAME)
-                        .values(
-                            UUIDUtil.toBytes(UUID.randomUUID()),
-                            "testname"
-                        )
-                        .onDuplicateKeyUpdate()
-                        .set(SOME_LIST._NAME, "testname"),
-                    context
-                        .insertInto(SOME_LIST, SOME_LIST.UUID, SOME_LIST._NAME)
-                        .values(
-                            UUIDUtil.toBytes(UUID.randomUUID()),
-                            "othername"
-                        )
-                        .onDuplicateKeyUpdate()
-                        .set(SOME_LIST._NAME, "othername")
-                )
-                .execute();
-        } catch (SQLException e) {
+            final List<SomeListRecord> records = List.of(
+                new SomeListRecord(UUIDUtil.toBytes(UUID.randomUUID()), "testname"),
+                new SomeListRecord(UUIDUtil.toBytes(UUID.randomUUID()), "othername")
+            );
+
+            BulkUpsert.execute(context, SOME_LIST, records);
+        } catch (SQLException | DataAccessException e) {
             Logger.get().error("SQL Query threw an error!", e);
         }
     }
@@ -176,13 +162,14 @@ public final class Queries {
      * Example load all data from database.
      * <p>
      * You should make this method return whatever it is you're grabbing from database.
+     * Heavy reads like this use {@link DB#getReadConnection()} so they are served by the read replica, if configured.
      *
      * @return the result
      */
     @SuppressWarnings("UnusedReturnValue")
     public static @Nullable Result<Record2<String, byte[]>> loadAll() {
         try (
-            Connection con = DB.getConnection()
+            Connection con = DB.getReadConnection()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -196,6 +183,75 @@ public final class Queries {
         return null;
     }
 
+    /**
+     * Example stream all data from database.
+     * <p>
+     * Rows are fetched in round-trips of the configured fetch size and passed to the consumer one at a time,
+     * so the full result is never held in memory. Use this instead of {@link #loadAll()} for large tables.
+     *
+     * @param consumer the consumer receiving each row
+     * @return true if all rows were processed, false if the query failed
+     */
+    public static boolean loadAll(Consumer<Record2<String, byte[]>> consumer) {
+        try (
+            Connection con = DB.getReadConnection()
+        ) {
+            DSLContext context = DB.getContext(con);
+
+            try (
+                Cursor<Record2<String, byte[]>> cursor = context
+                    .select(SOME_LIST._NAME, SOME_LIST.UUID)
+                    .from(SOME_LIST)
+                    .fetchSize(DB.getHandler().getDatabaseConfig().getFetchSize())
+                    .fetchLazy()
+            ) {
+                for (Record2<String, byte[]> record : cursor)
+                    consumer.accept(record);
+            }
+            return true;
+        } catch (SQLException | DataAccessException e) {
+            Logger.get().error("SQL Query threw an error!", e);
+        }
+        return false;
+    }
+
+    /**
+     * Example stream all data from database in chunks.
+     * <p>
+     * Rows are passed to the consumer in chunks of up to {@code chunkSize} rows, only one chunk is held in memory at a time.
+     * Useful when each chunk is processed with a batch operation.
+     *
+     * @param chunkSize the maximum amount of rows per chunk
+     * @param consumer  the consumer receiving each chunk
+     * @return true if all rows were processed, false if the query failed
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public static boolean loadAll(int chunkSize, Consumer<Result<Record2<String, byte[]>>> consumer) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive, got " + chunkSize);
+
+        try (
+            Connection con = DB.getReadConnection()
+        ) {
+            DSLContext context = DB.getContext(con);
+
+            try (
+                Cursor<Record2<String, byte[]>> cursor = context
+                    .select(SOME_LIST._NAME, SOME_LIST.UUID)
+                    .from(SOME_LIST)
+                    .fetchSize(Math.min(chunkSize, DB.getHandler().getDatabaseConfig().getFetchSize()))
+                    .fetchLazy()
+            ) {
+                while (cursor.hasNext())
+                    consumer.accept(cursor.fetchNext(chunkSize));
+            }
+            return true;
+        } catch (SQLException | DataAccessException e) {
+            Logger.get().error("SQL Query threw an error!", e);
+        }
+        return false;
+    }
+
     /**
      * Holds all queries related to using the database as a messaging service.
      */
@@ -313,13 +369,18 @@ public final class Queries {
                 final Result<CooldownsRecord> cooldownsRecords = context
                     .selectFrom(COOLDOWNS)
                     .where(COOLDOWNS.UUID.eq(UUIDUtil.toBytes(uuid)))
+                    .and(COOLDOWNS.COOLDOWN_TIME.gt(QueryUtils.InstantUtil.toDateTime(Instant.now())))
                     .fetch();
 
-                return cooldownsRecords.stream()
-                    .collect(Collectors.toMap(
-                        r -> CooldownType.valueOf(r.getCooldownType()),
-                        r -> QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime())
-                    ));
+                final Map<CooldownType, Instant> cooldowns = new HashMap<>();
+                for (final CooldownsRecord r : cooldownsRecords) {
+                    final CooldownType cooldownType = CooldownTypeRegistry.byId(r.getCooldownType());
+                    if (cooldownType == null) // Type is not registered on this server
+                        continue;
+
+                    cooldowns.put(cooldownType, QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime()));
+                }
+                return cooldowns;
             } catch (SQLException e) {
                 Logger.get().error("SQL Query threw an error!", e);
             }
@@ -342,28 +403,221 @@ public final class Queries {
                     // Delete old cooldowns
                     ctx.deleteFrom(COOLDOWNS)
                         .where(COOLDOWNS.UUID.eq(UUIDUtil.toBytes(uuid)))
+                        .and(COOLDOWNS.COOLDOWN_TYPE.in(boundTypeIds()))
                         .execute();
 
                     // Insert new cooldowns
                     final List<CooldownsRecord> cooldownsRecords = new ArrayList<>();
 
-                    for (CooldownType cooldownType : CooldownType.values()) {
-                        if (!Cooldowns.has(uuid, cooldownType))
-                            continue;
+                    Cooldowns.getAll(uuid).forEach((cooldownType, instant) -> {
+                        cooldownsRecords.add(new CooldownsRecord(
+                            UUIDUtil.toBytes(uuid),
+                            (short) cooldownType.id(),
+                            QueryUtils.InstantUtil.toDateTime(instant)
+                        ));
+                    });
+
+                    if (!cooldownsRecords.isEmpty())
+                        ctx.batchInsert(cooldownsRecords).execute();
+                });
+            } catch (SQLException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+        }
+
+        /**
+         * Replaces the stored cooldowns of many players using a single connection and transaction.
+         *
+         * @param cooldowns the active cooldowns to store, keyed by player UUID
+         * @return true if the batch was committed
+         */
+        public static boolean saveAll(Map<UUID, Map<CooldownType, Instant>> cooldowns) {
+            if (cooldowns.isEmpty())
+                return true;
+
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                context.transaction(config -> {
+                    DSLContext ctx = config.dsl();
+
+                    // Delete old cooldowns
+                    ctx.deleteFrom(COOLDOWNS)
+                        .where(COOLDOWNS.UUID.in(cooldowns.keySet().stream().map(UUIDUtil::toBytes).toList()))
+                        .and(COOLDOWNS.COOLDOWN_TYPE.in(boundTypeIds()))
+                        .execute();
+
+                    // Insert new cooldowns
+                    final List<CooldownsRecord> cooldownsRecords = new ArrayList<>();
 
+                    cooldowns.forEach((uuid, types) -> types.forEach((cooldownType, instant) -> {
                         cooldownsRecords.add(new CooldownsRecord(
                             UUIDUtil.toBytes(uuid),
-                            cooldownType.name(),
-                            QueryUtils.InstantUtil.toDateTime(Cooldowns.get(uuid, cooldownType))
+                            (short) cooldownType.id(),
+                            QueryUtils.InstantUtil.toDateTime(instant)
                         ));
-                    }
+                    }));
 
                     if (!cooldownsRecords.isEmpty())
                         ctx.batchInsert(cooldownsRecords).execute();
                 });
+                return true;
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return false;
+        }
+
+        /**
+         * Deletes expired cooldowns for up to {@code chunkSize} players.
+         * <p>
+         * Run repeatedly until it returns fewer than {@code chunkSize} to purge all expired cooldowns without
+         * holding long locks on the table.
+         * </p>
+         *
+         * @param chunkSize the maximum amount of players to purge
+         * @return the amount of players whose expired cooldowns were deleted, or -1 if the query failed
+         */
+        public static int purgeExpired(int chunkSize) {
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+                final LocalDateTime now = QueryUtils.InstantUtil.toDateTime(Instant.now());
+
+                final List<byte[]> uuids = context
+                    .selectDistinct(COOLDOWNS.UUID)
+                    .from(COOLDOWNS)
+                    .where(COOLDOWNS.COOLDOWN_TIME.le(now))
+                    .limit(chunkSize)
+                    .fetch(COOLDOWNS.UUID);
+
+                if (uuids.isEmpty())
+                    return 0;
+
+                context.deleteFrom(COOLDOWNS)
+                    .where(COOLDOWNS.UUID.in(uuids))
+                    .and(COOLDOWNS.COOLDOWN_TIME.le(now))
+                    .execute();
+
+                return uuids.size();
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return -1;
+        }
+
+        /**
+         * Loads the ids assigned to every cooldown type name.
+         *
+         * @return the type ids keyed by name, or null if the query failed
+         */
+        public static @Nullable Map<String, Integer> loadTypes() {
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                final Map<String, Integer> types = new HashMap<>();
+                for (final CooldownTypesRecord r : context.selectFrom(COOLDOWN_TYPES).fetch())
+                    types.put(r.getName(), r.getId().intValue());
+                return types;
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return null;
+        }
+
+        /**
+         * Assigns an id to a cooldown type name.
+         *
+         * @param id   the id
+         * @param name the type name
+         * @return false if the id or name is already taken, or the query failed
+         */
+        public static boolean insertType(int id, String name) {
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                context.insertInto(COOLDOWN_TYPES, COOLDOWN_TYPES.ID, COOLDOWN_TYPES.NAME)
+                    .values((short) id, name)
+                    .execute();
+                return true;
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().debug("Failed to insert cooldown type, it was likely inserted concurrently.", e);
+            }
+            return false;
+        }
+
+        /**
+         * Ids of the types registered on this server. Rows of other types are left untouched when saving.
+         */
+        private static List<Short> boundTypeIds() {
+            return CooldownTypeRegistry.values().stream()
+                .filter(CooldownType::isBound)
+                .map(type -> (short) type.id())
+                .toList();
+        }
+    }
+
+    /**
+     * Wrapper class to organize generic queries of tables with one row per player, used by
+     * {@link io.github.exampleuser.example.database.cache.WriteBehindCache#forTable(Table, TableField)}.
+     */
+    public static final class Entities {
+        /**
+         * Loads the row of a player.
+         *
+         * @param table     the table
+         * @param uuidField the unique field holding the player UUID
+         * @param uuid      the player UUID
+         * @param <R>       the record type
+         * @return the record, or null if the player has no row
+         * @throws DataAccessException if the query failed
+         */
+        public static <R extends Record> @Nullable R load(Table<R> table, TableField<R, byte[]> uuidField, UUID uuid) {
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                return context
+                    .selectFrom(table)
+                    .where(uuidField.eq(UUIDUtil.toBytes(uuid)))
+                    .fetchOne();
             } catch (SQLException e) {
+                throw new DataAccessException("Failed to load " + table.getName() + " row", e);
+            }
+        }
+
+        /**
+         * Upserts the rows of many players using a single connection, see {@link BulkUpsert}.
+         *
+         * @param table     the table
+         * @param uuidField the unique field holding the player UUID
+         * @param records   the records
+         * @param <R>       the record type
+         * @return true if all rows were written
+         */
+        public static <R extends Record> boolean saveAll(Table<R> table, TableField<R, byte[]> uuidField, Collection<R> records) {
+            if (records.isEmpty())
+                return true;
+
+            try (
+                Connection con = DB.getConnection()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                BulkUpsert.execute(context, table, records, List.of(uuidField));
+                return true;
+            } catch (SQLException | DataAccessException e) {
                 Logger.get().error("SQL Query threw an error!", e);
             }
+            return false;
         }
     }
 }
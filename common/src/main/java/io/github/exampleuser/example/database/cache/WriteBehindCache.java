@@ -0,0 +1,549 @@
+package io.github.exampleuser.example.database.cache;
+
+import io.github.exampleuser.example.database.Queries;
+import io.github.exampleuser.example.utility.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.Identity;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static io.github.exampleuser.example.database.QueryUtils.UUIDUtil;
+
+/**
+ * A write-behind cache of per-player values, loaded from the database on demand and written back in batches.
+ * <p>
+ * Values are loaded asynchronously by the loader, and concurrent loads of the same key share one query. Changes made
+ * through {@link #modify(UUID, Consumer)} or {@link #put(UUID, Object)} mark the entry dirty, and a single writer thread
+ * flushes dirty entries in batches through the saver every flush interval. Entries not accessed for the expiry time are
+ * evicted, after being flushed if they are dirty, so values of players that left are written once and then forgotten.
+ * </p>
+ * <p>
+ * A failed save keeps the entries dirty, so they are retried on the next flush and never evicted unsaved.
+ * </p>
+ * Usage:
+ * <pre>{@code
+ * WriteBehindCache<SomeListRecord> cache = WriteBehindCache.forTable(SOME_LIST, SOME_LIST.UUID)
+ *     .withName("SomeList")
+ *     .build();
+ * cache.start();
+ *
+ * cache.load(uuid); // On join
+ * cache.modify(uuid, r -> r.set(SOME_LIST._NAME, "name"));
+ * cache.evict(uuid); // On quit
+ *
+ * cache.stop(5000L); // On disable
+ * }</pre>
+ *
+ * @param <V> the value type
+ */
+public final class WriteBehindCache<V> {
+    private static final String LOG_PREFIX = "[Cache] ";
+
+    private final String name;
+    private final Function<UUID, V> loader;
+    private final @Nullable Function<UUID, V> defaultValue;
+    private final Predicate<Map<UUID, V>> saver;
+    private final UnaryOperator<V> snapshot;
+    private final long flushInterval;
+    private final long expireAfterAccess;
+    private final int batchSize;
+
+    private final Map<UUID, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private @Nullable ExecutorService loaderExecutor;
+    private @Nullable ScheduledExecutorService writer;
+
+    private WriteBehindCache(
+        String name,
+        Function<UUID, V> loader,
+        @Nullable Function<UUID, V> defaultValue,
+        Predicate<Map<UUID, V>> saver,
+        UnaryOperator<V> snapshot,
+        long flushInterval,
+        long expireAfterAccess,
+        int batchSize
+    ) {
+        this.name = name;
+        this.loader = loader;
+        this.defaultValue = defaultValue;
+        this.saver = saver;
+        this.snapshot = snapshot;
+        this.flushInterval = flushInterval;
+        this.expireAfterAccess = expireAfterAccess;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts the loader threads and the writer thread.
+     */
+    public synchronized void start() {
+        if (writer != null)
+            return;
+
+        loaderExecutor = Executors.newFixedThreadPool(2, daemon(name + "-Cache-Loader"));
+        writer = Executors.newSingleThreadScheduledExecutor(daemon(name + "-Cache-Writer"));
+        writer.scheduleWithFixedDelay(this::tick, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the writer thread and flushes all dirty entries on the calling thread. Loads still in progress are
+     * completed exceptionally with an {@link IllegalStateException}.
+     *
+     * @param deadlineMillis the maximum time to spend flushing in milliseconds
+     * @return the amount of dirty entries that could not be written before the deadline
+     */
+    public synchronized int stop(long deadlineMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        if (loaderExecutor != null) {
+            loaderExecutor.shutdownNow();
+            loaderExecutor = null;
+        }
+
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(deadlineMillis, TimeUnit.MILLISECONDS); // Let an in-flight batch finish
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+
+        synchronized (flushLock) {
+            while (System.nanoTime() < deadline) {
+                if (!flushBatch())
+                    break;
+            }
+        }
+
+        final int remaining = dirtyCount();
+        entries.clear();
+        final IllegalStateException stopped = new IllegalStateException("Cache " + name + " is stopped");
+        loading.values().forEach(future -> future.completeExceptionally(stopped)); // Queued loads were discarded, don't leave callers waiting
+        loading.clear();
+        return remaining;
+    }
+
+    /**
+     * Gets the value of a key, loading it if it is not cached.
+     *
+     * @param uuid the key
+     * @return a future completed with the value, or null if there is none and no default value is configured
+     */
+    public @NotNull CompletableFuture<V> load(@NotNull UUID uuid) {
+        final Entry<V> entry = entries.get(uuid);
+        if (entry != null) {
+            entry.touch();
+            return CompletableFuture.completedFuture(entry.value);
+        }
+
+        final ExecutorService executor = loaderExecutor;
+        if (executor == null)
+            return CompletableFuture.failedFuture(new IllegalStateException("Cache " + name + " is not started"));
+
+        final CompletableFuture<V> future = loading.computeIfAbsent(uuid, key -> CompletableFuture.supplyAsync(() -> {
+            V value = loader.apply(key);
+            if (value == null && defaultValue != null)
+                value = defaultValue.apply(key);
+            if (value == null)
+                return null;
+
+            final Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value)); // Values put while loading take precedence
+            return existing != null ? existing.value : value;
+        }, executor));
+        future.whenComplete((v, t) -> loading.remove(uuid, future)); // Outside computeIfAbsent, as it may run right away
+        return future;
+    }
+
+    /**
+     * Gets the value of a key if it is cached.
+     *
+     * @param uuid the key
+     * @return the value, or null if it is not cached
+     */
+    public @Nullable V getIfLoaded(@NotNull UUID uuid) {
+        final Entry<V> entry = entries.get(uuid);
+        if (entry == null)
+            return null;
+
+        entry.touch();
+        return entry.value;
+    }
+
+    /**
+     * Caches a value, replacing the cached value if there is one, and marks it dirty.
+     *
+     * @param uuid  the key
+     * @param value the value
+     */
+    public void put(@NotNull UUID uuid, @NotNull V value) {
+        final Entry<V> entry = new Entry<>(value);
+        entry.dirty = true;
+        entries.put(uuid, entry);
+    }
+
+    /**
+     * Modifies a cached value and marks it dirty.
+     * <p>
+     * Modifications are synchronized with the snapshots taken when flushing, so a flush never sees a value halfway
+     * through a modification.
+     * </p>
+     *
+     * @param uuid     the key
+     * @param modifier the modification
+     * @return false if the value is not cached, in which case it has to be loaded first
+     */
+    public boolean modify(@NotNull UUID uuid, @NotNull Consumer<V> modifier) {
+        final Entry<V> entry = entries.get(uuid);
+        if (entry == null)
+            return false;
+
+        synchronized (entry) {
+            if (entry.removed)
+                return false;
+
+            modifier.accept(entry.value);
+            entry.dirty = true;
+        }
+        entry.touch();
+        return true;
+    }
+
+    /**
+     * Marks a cached value dirty, use when the value was modified outside {@link #modify(UUID, Consumer)}.
+     *
+     * @param uuid the key
+     * @return false if the value is not cached or is being evicted, in which case the change will not be written
+     */
+    public boolean markDirty(@NotNull UUID uuid) {
+        final Entry<V> entry = entries.get(uuid);
+        if (entry == null)
+            return false;
+
+        synchronized (entry) {
+            if (entry.removed)
+                return false;
+
+            entry.dirty = true;
+        }
+        entry.touch();
+        return true;
+    }
+
+    /**
+     * Evicts a value on the next flush, writing it first if it is dirty.
+     *
+     * @param uuid the key
+     */
+    public void evict(@NotNull UUID uuid) {
+        final Entry<V> entry = entries.get(uuid);
+        if (entry != null)
+            entry.evict = true;
+    }
+
+    /**
+     * Gets the amount of cached values.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the amount of cached values waiting to be written.
+     *
+     * @return the amount of dirty values
+     */
+    public int dirtyCount() {
+        int dirty = 0;
+        for (Entry<V> entry : entries.values()) {
+            if (entry.dirty)
+                dirty++;
+        }
+        return dirty;
+    }
+
+    private void tick() {
+        try {
+            synchronized (flushLock) {
+                while (true) {
+                    if (!flushBatch())
+                        return; // Retry on the next run
+                }
+            }
+        } finally {
+            evictExpired();
+        }
+    }
+
+    /**
+     * Writes up to {@link #batchSize} dirty entries.
+     *
+     * @return false if nothing was left to write or the write failed
+     */
+    private boolean flushBatch() {
+        final Map<UUID, Entry<V>> batch = new HashMap<>();
+        final Map<UUID, V> snapshots = new HashMap<>();
+
+        for (Map.Entry<UUID, Entry<V>> e : entries.entrySet()) {
+            if (batch.size() >= batchSize)
+                break;
+
+            final Entry<V> entry = e.getValue();
+            synchronized (entry) {
+                if (!entry.dirty)
+                    continue;
+
+                entry.dirty = false;
+                snapshots.put(e.getKey(), snapshot.apply(entry.value));
+            }
+            batch.put(e.getKey(), entry);
+        }
+
+        if (batch.isEmpty())
+            return false;
+
+        boolean saved;
+        try {
+            saved = saver.test(snapshots);
+        } catch (RuntimeException e) {
+            Logger.get().error(LOG_PREFIX + "Saving " + name + " threw an error!", e);
+            saved = false;
+        }
+
+        if (saved)
+            return true;
+
+        batch.values().forEach(entry -> entry.dirty = true);
+        Logger.get().warn(LOG_PREFIX + "Failed to write {} {} entries, they will be retried.", batch.size(), name);
+        return false;
+    }
+
+    private void evictExpired() {
+        final long expiredBefore = System.currentTimeMillis() - expireAfterAccess;
+        entries.entrySet().removeIf(e -> {
+            final Entry<V> entry = e.getValue();
+            synchronized (entry) {
+                entry.removed = !entry.dirty && (entry.evict || entry.lastAccess < expiredBefore);
+                return entry.removed;
+            }
+        });
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            final Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Get a builder for a cache of jOOQ records of a table with one row per player.
+     * <p>
+     * Rows are loaded by {@code uuidField}, players without a row get a new record, and records are upserted on
+     * conflict with {@code uuidField}, which must have a primary or unique key. Identity columns are never written,
+     * so the database assigns them to new rows.
+     * </p>
+     *
+     * @param table     the table
+     * @param uuidField the unique field holding the player UUID
+     * @param <R>       the record type
+     * @return the builder
+     */
+    public static <R extends Record> @NotNull Builder<R> forTable(@NotNull Table<R> table, @NotNull TableField<R, byte[]> uuidField) {
+        final @Nullable Identity<R, ?> identity = table.getIdentity();
+
+        return new Builder<R>()
+            .withName(table.getName())
+            .withLoader(uuid -> Queries.Entities.load(table, uuidField, uuid))
+            .withDefaultValue(uuid -> {
+                final R record = table.newRecord();
+                record.set(uuidField, UUIDUtil.toBytes(uuid));
+                return record;
+            })
+            .withSnapshot(record -> {
+                final R copy = record.into(table);
+                copy.changed(true); // Write every column, not only the ones changed since the record was loaded
+                if (identity != null)
+                    copy.changed(identity.getField(), false);
+                return copy;
+            })
+            .withSaver(records -> Queries.Entities.saveAll(table, uuidField, records.values()));
+    }
+
+    /**
+     * Get a builder instance.
+     *
+     * @param <V> the value type
+     * @return the builder
+     */
+    public static <V> @NotNull Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * A cached value and its state.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private volatile boolean dirty;
+        private volatile boolean evict;
+        private boolean removed; // Guarded by the entry lock
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private void touch() {
+            lastAccess = System.currentTimeMillis();
+            evict = false;
+        }
+    }
+
+    /**
+     * A builder for {@link WriteBehindCache}.
+     *
+     * @param <V> the value type
+     */
+    public static final class Builder<V> {
+        private String name = "Entity";
+        private @Nullable Function<UUID, V> loader;
+        private @Nullable Function<UUID, V> defaultValue;
+        private @Nullable Predicate<Map<UUID, V>> saver;
+        private UnaryOperator<V> snapshot = UnaryOperator.identity();
+        private long flushInterval = 30_000L;
+        private long expireAfterAccess = 600_000L;
+        private int batchSize = 100;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the name used for thread names and log messages.
+         *
+         * @param name the name
+         * @return the builder
+         */
+        public Builder<V> withName(@NotNull String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Set the function loading a value from the database. It runs on a loader thread and may block.
+         *
+         * @param loader the loader, returning null if there is no stored value
+         * @return the builder
+         */
+        public Builder<V> withLoader(@NotNull Function<UUID, V> loader) {
+            this.loader = loader;
+            return this;
+        }
+
+        /**
+         * Set the function creating the value of keys without a stored value.
+         *
+         * @param defaultValue the default value factory
+         * @return the builder
+         */
+        public Builder<V> withDefaultValue(@Nullable Function<UUID, V> defaultValue) {
+            this.defaultValue = defaultValue;
+            return this;
+        }
+
+        /**
+         * Set the function writing a batch of values to the database. It runs on the writer thread and may block.
+         *
+         * @param saver the saver, returning false if the write failed
+         * @return the builder
+         */
+        public Builder<V> withSaver(@NotNull Predicate<Map<UUID, V>> saver) {
+            this.saver = saver;
+            return this;
+        }
+
+        /**
+         * Set the function copying a value before it is passed to the saver, so mutable values can keep being modified
+         * while they are written. Defaults to passing the value itself, which is only safe for immutable values.
+         *
+         * @param snapshot the snapshot function
+         * @return the builder
+         */
+        public Builder<V> withSnapshot(@NotNull UnaryOperator<V> snapshot) {
+            this.snapshot = snapshot;
+            return this;
+        }
+
+        /**
+         * Set how often dirty values are written and expired values evicted.
+         *
+         * @param flushInterval the interval in milliseconds
+         * @return the builder
+         */
+        public Builder<V> withFlushInterval(long flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Set the time after the last access at which a value is evicted.
+         *
+         * @param expireAfterAccess the time in milliseconds
+         * @return the builder
+         */
+        public Builder<V> withExpireAfterAccess(long expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+            return this;
+        }
+
+        /**
+         * Set the maximum amount of values passed to the saver at once.
+         *
+         * @param batchSize the batch size
+         * @return the builder
+         */
+        public Builder<V> withBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Build the cache.
+         *
+         * @return the cache
+         * @throws IllegalStateException if the loader or saver is missing
+         */
+        public @NotNull WriteBehindCache<V> build() throws IllegalStateException {
+            if (loader == null)
+                throw new IllegalStateException("Loader is required to build WriteBehindCache");
+
+            if (saver == null)
+                throw new IllegalStateException("Saver is required to build WriteBehindCache");
+
+            return new WriteBehindCache<>(
+                name,
+                loader,
+                defaultValue,
+                saver,
+                snapshot,
+                Math.max(1L, flushInterval),
+                Math.max(0L, expireAfterAccess),
+                Math.max(1, batchSize)
+            );
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.exampleuser.example.database.config;
 
 import io.github.exampleuser.example.database.handler.DatabaseType;
+import io.github.exampleuser.example.database.handler.MainThreadPolicy;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -38,6 +39,14 @@ public class DatabaseConfig {
     private final Map<String, Object> connectionProperties;
 
     private final SslConfig sslConfig;
+    private final MainThreadPolicy mainThreadPolicy;
+    private final long slowQueryThreshold;
+    private final int saturationThreshold;
+    private final long saturationDuration;
+    private final ReplicaConfig replicaConfig;
+    private final SqliteConfig sqliteConfig;
+    private final H2Config h2Config;
+    private final int fetchSize;
 
     /**
      * Immutable SSL/TLS configuration snapshot for the database connection.
@@ -52,6 +61,57 @@ public class DatabaseConfig {
         static final SslConfig DISABLED = new SslConfig(false, "require", "", "", "");
     }
 
+    /**
+     * Immutable read replica configuration snapshot, the replica serves the same database as the primary.
+     * An empty username means the credentials of the primary are used.
+     */
+    public record ReplicaConfig(
+        boolean enabled,
+        String host,
+        int port,
+        String username,
+        String password,
+        int maxPoolSize
+    ) {
+        static final ReplicaConfig DISABLED = new ReplicaConfig(false, "localhost", 3306, "", "", 5);
+    }
+
+    /**
+     * Immutable SQLite tuning snapshot.
+     *
+     * @param wal            whether to use write-ahead logging, allowing reads concurrent to the single writer
+     * @param readerPoolSize the amount of read-only connections, only used with write-ahead logging
+     * @param busyTimeout    the time in milliseconds to wait for a lock before failing with SQLITE_BUSY
+     * @param cacheSize      the page cache size in KiB per connection
+     * @param mmapSize       the maximum amount of bytes of the database file to memory map
+     */
+    public record SqliteConfig(
+        boolean wal,
+        int readerPoolSize,
+        long busyTimeout,
+        long cacheSize,
+        long mmapSize
+    ) {
+        static final SqliteConfig DEFAULT = new SqliteConfig(true, 4, 5000L, 16384L, 67108864L);
+    }
+
+    /**
+     * Immutable H2 tuning snapshot.
+     *
+     * @param multiProcess whether other processes access the database file, which starts a TCP server in the first process
+     * @param cacheSize    the page cache size in KiB
+     * @param lockTimeout  the time in milliseconds to wait for a lock before failing
+     * @param writeDelay   the maximum delay in milliseconds before committed changes are written to disk
+     */
+    public record H2Config(
+        boolean multiProcess,
+        long cacheSize,
+        long lockTimeout,
+        long writeDelay
+    ) {
+        static final H2Config DEFAULT = new H2Config(false, 65536L, 10000L, 500L);
+    }
+
     /**
      * Instantiates a new Database config.
      *
@@ -71,6 +131,14 @@ public class DatabaseConfig {
      * @param connectionTimeout    the connection timeout
      * @param connectionProperties the connection properties
      * @param sslConfig            the SSL configuration
+     * @param mainThreadPolicy     the main thread policy
+     * @param slowQueryThreshold   the slow query threshold in milliseconds
+     * @param saturationThreshold  the amount of threads waiting for a connection before the pool is considered saturated
+     * @param saturationDuration   the time in milliseconds the pool must stay saturated before warning
+     * @param replicaConfig        the read replica configuration
+     * @param sqliteConfig         the SQLite configuration
+     * @param h2Config             the H2 configuration
+     * @param fetchSize            the amount of rows fetched per round-trip by streaming queries
      */
     private DatabaseConfig(
         DatabaseType databaseType,
@@ -88,7 +156,15 @@ public class DatabaseConfig {
         long keepAliveTime,
         long connectionTimeout,
         Map<String, Object> connectionProperties,
-        SslConfig sslConfig
+        SslConfig sslConfig,
+        MainThreadPolicy mainThreadPolicy,
+        long slowQueryThreshold,
+        int saturationThreshold,
+        long saturationDuration,
+        ReplicaConfig replicaConfig,
+        SqliteConfig sqliteConfig,
+        H2Config h2Config,
+        int fetchSize
     ) {
         this.databaseType = databaseType;
         this.tablePrefix = tablePrefix;
@@ -106,6 +182,14 @@ public class DatabaseConfig {
         this.connectionTimeout = connectionTimeout;
         this.connectionProperties = connectionProperties;
         this.sslConfig = sslConfig;
+        this.mainThreadPolicy = mainThreadPolicy;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.saturationThreshold = saturationThreshold;
+        this.saturationDuration = saturationDuration;
+        this.replicaConfig = replicaConfig;
+        this.sqliteConfig = sqliteConfig;
+        this.h2Config = h2Config;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -217,6 +301,28 @@ public class DatabaseConfig {
         return minIdle;
     }
 
+    /**
+     * Gets the maximum size of the primary connection pool, which is the max pool size except for SQLite.
+     * <p>
+     * SQLite allows a single writer, so its primary pool holds a single connection whatever the max pool size is.
+     * Anything sized to the connection pool should use this instead of {@link #getMaxPoolSize()}.
+     * </p>
+     *
+     * @return the primary pool size
+     */
+    public int getPoolSize() {
+        return databaseType == DatabaseType.SQLITE ? 1 : maxPoolSize;
+    }
+
+    /**
+     * Gets the minimum amount of idle connections of the primary connection pool, at most {@link #getPoolSize()}.
+     *
+     * @return the primary pool min idle
+     */
+    public int getPoolMinIdle() {
+        return Math.min(minIdle, getPoolSize());
+    }
+
     /**
      * Gets max life time.
      *
@@ -253,6 +359,78 @@ public class DatabaseConfig {
         return sslConfig;
     }
 
+    /**
+     * Gets main thread policy.
+     *
+     * @return the main thread policy
+     */
+    public MainThreadPolicy getMainThreadPolicy() {
+        return mainThreadPolicy;
+    }
+
+    /**
+     * Gets slow query threshold in milliseconds.
+     *
+     * @return the slow query threshold in milliseconds
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * Gets amount of threads waiting for a connection before the pool is considered saturated.
+     *
+     * @return the amount of threads waiting for a connection before the pool is considered saturated
+     */
+    public int getSaturationThreshold() {
+        return saturationThreshold;
+    }
+
+    /**
+     * Gets time in milliseconds the pool must stay saturated before warning.
+     *
+     * @return the time in milliseconds the pool must stay saturated before warning
+     */
+    public long getSaturationDuration() {
+        return saturationDuration;
+    }
+
+    /**
+     * Gets read replica configuration.
+     *
+     * @return the read replica configuration
+     */
+    public ReplicaConfig getReplicaConfig() {
+        return replicaConfig;
+    }
+
+    /**
+     * Gets SQLite configuration.
+     *
+     * @return the SQLite configuration
+     */
+    public SqliteConfig getSqliteConfig() {
+        return sqliteConfig;
+    }
+
+    /**
+     * Gets H2 configuration.
+     *
+     * @return the H2 configuration
+     */
+    public H2Config getH2Config() {
+        return h2Config;
+    }
+
+    /**
+     * Gets amount of rows fetched per round-trip by streaming queries.
+     *
+     * @return the amount of rows fetched per round-trip by streaming queries
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     /**
      * Gets connection properties.
      *
@@ -292,6 +470,32 @@ public class DatabaseConfig {
                 cfg.database.advanced.ssl.certPath,
                 cfg.database.advanced.ssl.keyPath
             ))
+            .withMainThreadPolicy(cfg.database.advanced.mainThreadAccess)
+            .withSlowQueryThreshold(cfg.database.advanced.slowQueryThreshold)
+            .withSaturationThreshold(cfg.database.advanced.connectionPool.saturationthreshold)
+            .withSaturationDuration(cfg.database.advanced.connectionPool.saturationduration)
+            .withReplicaConfig(new ReplicaConfig(
+                cfg.database.replica.enabled,
+                cfg.database.replica.host,
+                cfg.database.replica.port,
+                cfg.database.replica.username,
+                cfg.database.replica.password,
+                cfg.database.replica.maxpoolsize
+            ))
+            .withSqliteConfig(new SqliteConfig(
+                cfg.database.advanced.sqlite.wal,
+                cfg.database.advanced.sqlite.readerPoolSize,
+                cfg.database.advanced.sqlite.busyTimeout,
+                cfg.database.advanced.sqlite.cacheSize,
+                cfg.database.advanced.sqlite.mmapSize
+            ))
+            .withH2Config(new H2Config(
+                cfg.database.advanced.h2.multiProcess,
+                cfg.database.advanced.h2.cacheSize,
+                cfg.database.advanced.h2.lockTimeout,
+                cfg.database.advanced.h2.writeDelay
+            ))
+            .withFetchSize(cfg.database.advanced.fetchSize)
             .build();
     }
 
@@ -331,6 +535,14 @@ public class DatabaseConfig {
 
         private @Nullable Map<String, Object> connectionProperties;
         private @Nullable SslConfig sslConfig;
+        private @Nullable MainThreadPolicy mainThreadPolicy;
+        private @Nullable Long slowQueryThreshold;
+        private @Nullable Integer saturationThreshold;
+        private @Nullable Long saturationDuration;
+        private @Nullable ReplicaConfig replicaConfig;
+        private @Nullable SqliteConfig sqliteConfig;
+        private @Nullable H2Config h2Config;
+        private @Nullable Integer fetchSize;
 
         /**
          * With database type database config builder.
@@ -508,6 +720,94 @@ public class DatabaseConfig {
             return this;
         }
 
+        /**
+         * With main thread policy database config builder.
+         *
+         * @param mainThreadPolicy the main thread policy
+         * @return the database config builder
+         */
+        public Builder withMainThreadPolicy(MainThreadPolicy mainThreadPolicy) {
+            this.mainThreadPolicy = mainThreadPolicy;
+            return this;
+        }
+
+        /**
+         * With slow query threshold in milliseconds database config builder.
+         *
+         * @param slowQueryThreshold the slow query threshold in milliseconds
+         * @return the database config builder
+         */
+        public Builder withSlowQueryThreshold(Long slowQueryThreshold) {
+            this.slowQueryThreshold = slowQueryThreshold;
+            return this;
+        }
+
+        /**
+         * With amount of threads waiting for a connection before the pool is considered saturated database config builder.
+         *
+         * @param saturationThreshold the amount of threads waiting for a connection before the pool is considered saturated
+         * @return the database config builder
+         */
+        public Builder withSaturationThreshold(Integer saturationThreshold) {
+            this.saturationThreshold = saturationThreshold;
+            return this;
+        }
+
+        /**
+         * With time in milliseconds the pool must stay saturated before warning database config builder.
+         *
+         * @param saturationDuration the time in milliseconds the pool must stay saturated before warning
+         * @return the database config builder
+         */
+        public Builder withSaturationDuration(Long saturationDuration) {
+            this.saturationDuration = saturationDuration;
+            return this;
+        }
+
+        /**
+         * With read replica configuration database config builder.
+         *
+         * @param replicaConfig the read replica configuration
+         * @return the database config builder
+         */
+        public Builder withReplicaConfig(ReplicaConfig replicaConfig) {
+            this.replicaConfig = replicaConfig;
+            return this;
+        }
+
+        /**
+         * With SQLite configuration database config builder.
+         *
+         * @param sqliteConfig the SQLite configuration
+         * @return the database config builder
+         */
+        public Builder withSqliteConfig(SqliteConfig sqliteConfig) {
+            this.sqliteConfig = sqliteConfig;
+            return this;
+        }
+
+        /**
+         * With H2 configuration database config builder.
+         *
+         * @param h2Config the H2 configuration
+         * @return the database config builder
+         */
+        public Builder withH2Config(H2Config h2Config) {
+            this.h2Config = h2Config;
+            return this;
+        }
+
+        /**
+         * With amount of rows fetched per round-trip by streaming queries database config builder.
+         *
+         * @param fetchSize the amount of rows fetched per round-trip by streaming queries
+         * @return the database config builder
+         */
+        public Builder withFetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         /**
          * Build database config.
          *
@@ -574,7 +874,31 @@ public class DatabaseConfig {
             if (sslConfig == null)
                 sslConfig = SslConfig.DISABLED;
 
-            return new DatabaseConfig(databaseType, tablePrefix, path, host, port, database, username, password, repair, maxPoolSize, minIdle, maxLifeTime, keepAliveTime, connectionTimeout, connectionProperties, sslConfig);
+            if (mainThreadPolicy == null)
+                mainThreadPolicy = MainThreadPolicy.WARN;
+
+            if (slowQueryThreshold == null)
+                slowQueryThreshold = 250L;
+
+            if (saturationThreshold == null)
+                saturationThreshold = 2;
+
+            if (saturationDuration == null)
+                saturationDuration = 5000L;
+
+            if (replicaConfig == null)
+                replicaConfig = ReplicaConfig.DISABLED;
+
+            if (sqliteConfig == null)
+                sqliteConfig = SqliteConfig.DEFAULT;
+
+            if (h2Config == null)
+                h2Config = H2Config.DEFAULT;
+
+            if (fetchSize == null)
+                fetchSize = 1000;
+
+            return new DatabaseConfig(databaseType, tablePrefix, path, host, port, database, username, password, repair, maxPoolSize, minIdle, maxLifeTime, keepAliveTime, connectionTimeout, connectionProperties, sslConfig, mainThreadPolicy, slowQueryThreshold, saturationThreshold, saturationDuration, replicaConfig, sqliteConfig, h2Config, fetchSize);
         }
     }
 }
@@ -1,11 +1,16 @@
 package io.github.exampleuser.example.database.config;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import io.github.exampleuser.example.database.exception.DatabaseInitializationException;
 import io.github.exampleuser.example.database.handler.DatabaseType;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import static io.github.exampleuser.example.database.handler.DatabaseType.H2;
 import static io.github.exampleuser.example.database.handler.DatabaseType.SQLITE;
 
 /**
@@ -14,6 +19,8 @@ import static io.github.exampleuser.example.database.handler.DatabaseType.SQLITE
  * and other pool settings based on the type of database being used.
  */
 public final class HikariConfigFactory {
+    private static final long REPLICA_CONNECTION_TIMEOUT = 2000L;
+
     /**
      * Creates a HikariConfig based on the provided DatabaseConfig.
      *
@@ -21,38 +28,33 @@ public final class HikariConfigFactory {
      * @return a HikariConfig instance configured for the specified database
      * @throws DatabaseInitializationException if there is an error during initialization
      */
-    @SuppressWarnings("RedundantLabeledSwitchRuleCodeBlock")
     public static HikariConfig get(DatabaseConfig config) throws DatabaseInitializationException {
+        return get(config, null);
+    }
+
+    /**
+     * Creates a HikariConfig based on the provided DatabaseConfig.
+     *
+     * @param config         the database configuration
+     * @param metricsTracker the factory of the tracker receiving pool metrics, or null
+     * @return a HikariConfig instance configured for the specified database
+     * @throws DatabaseInitializationException if there is an error during initialization
+     */
+    @SuppressWarnings("RedundantLabeledSwitchRuleCodeBlock")
+    public static HikariConfig get(DatabaseConfig config, @Nullable MetricsTrackerFactory metricsTracker) throws DatabaseInitializationException {
         final HikariConfig hikariConfig = new HikariConfig();
         final DatabaseType databaseType = config.getDatabaseType();
 
         // Create RDBMS specific jdbc url
         final String jdbcUrl = switch (databaseType) {
-            case SQLITE, H2 -> {
-                final Path path = config.getPath().orElseThrow(
-                    () -> new DatabaseInitializationException("Path was null when setting up database!")
-                );
-
-                final String fileName = databaseType.equals(SQLITE) ? "database.sqlite" : "database";
-
-                if (!path.toFile().exists() && !path.toFile().mkdirs())
-                    throw new DatabaseInitializationException("Failed to create database directory at path: %s".formatted(path.toAbsolutePath()));
-
-                yield "jdbc:%s:file:%s%s".formatted(
-                    databaseType.getJdbcPrefix(),
-                    path.resolve(fileName).toAbsolutePath(),
-                    databaseType.getDefaultConnectionProperties()
-                );
+            case SQLITE -> {
+                yield getFileJdbcUrl(config, getSqlitePragmas(config.getSqliteConfig(), false));
+            }
+            case H2 -> {
+                yield getFileJdbcUrl(config, getH2Settings(config.getH2Config()));
             }
             case MYSQL, MARIADB -> {
-                yield "jdbc:%s://%s:%s/%s%s%s".formatted(
-                    databaseType.getJdbcPrefix(),
-                    config.getHost(),
-                    config.getPort(),
-                    config.getDatabase(),
-                    databaseType.getDefaultConnectionProperties(),
-                    config.getConnectionProperties()
-                );
+                yield getServerJdbcUrl(config, config.getHost(), config.getPort());
             }
         };
 
@@ -69,8 +71,8 @@ public final class HikariConfigFactory {
         }
 
         // Set pool configuration
-        hikariConfig.setMaximumPoolSize(config.getMaxPoolSize());
-        hikariConfig.setMinimumIdle(config.getMinIdle());
+        hikariConfig.setMaximumPoolSize(config.getPoolSize()); // SQLite allows a single writer, more connections would only contend for the lock
+        hikariConfig.setMinimumIdle(config.getPoolMinIdle());
         hikariConfig.setMaxLifetime(config.getMaxLifeTime());
         hikariConfig.setKeepaliveTime(config.getKeepAliveTime());
         hikariConfig.setConnectionTimeout(config.getConnectionTimeout());
@@ -90,9 +92,161 @@ public final class HikariConfigFactory {
         hikariConfig.setTransactionIsolation("TRANSACTION_REPEATABLE_READ");
         hikariConfig.setIsolateInternalQueries(true);
         hikariConfig.setConnectionInitSql(databaseType.getConnectionInitSql());
+        if (metricsTracker != null)
+            hikariConfig.setMetricsTrackerFactory(metricsTracker);
 
         DatabaseSslApplicator.apply(hikariConfig, config);
 
         return hikariConfig;
     }
+
+    /**
+     * Creates a HikariConfig for the read replica pool, identical to the primary pool except for the server,
+     * credentials and pool size.
+     * <p>
+     * The pool starts even if the replica is unreachable, and waits a short time for connections so callers can
+     * quickly fall back to the primary.
+     * </p>
+     *
+     * @param config         the database configuration
+     * @param metricsTracker the factory of the tracker receiving pool metrics, or null
+     * @return a HikariConfig instance configured for the read replica
+     * @throws DatabaseInitializationException if there is an error during initialization or replicas are not supported
+     */
+    public static HikariConfig getReplica(DatabaseConfig config, @Nullable MetricsTrackerFactory metricsTracker) throws DatabaseInitializationException {
+        final DatabaseConfig.ReplicaConfig replica = config.getReplicaConfig();
+        final DatabaseType databaseType = config.getDatabaseType();
+
+        if (!databaseType.equals(DatabaseType.MYSQL) && !databaseType.equals(DatabaseType.MARIADB))
+            throw new DatabaseInitializationException("Read replicas are only supported for MySQL and MariaDB!");
+
+        final HikariConfig hikariConfig = get(config, metricsTracker);
+        hikariConfig.addDataSourceProperty("url", getServerJdbcUrl(config, replica.host(), replica.port()));
+
+        if (!replica.username().isEmpty()) {
+            hikariConfig.setUsername(replica.username());
+            hikariConfig.setPassword(replica.password());
+        }
+
+        hikariConfig.setMaximumPoolSize(replica.maxPoolSize());
+        hikariConfig.setMinimumIdle(Math.min(config.getMinIdle(), replica.maxPoolSize()));
+        hikariConfig.setConnectionTimeout(Math.min(config.getConnectionTimeout(), REPLICA_CONNECTION_TIMEOUT));
+        hikariConfig.setInitializationFailTimeout(-1); // Don't fail startup while the replica is down
+        hikariConfig.setReadOnly(true);
+        hikariConfig.setPoolName("%s-replica-hikari".formatted(databaseType.getJdbcPrefix()));
+
+        return hikariConfig;
+    }
+
+    /**
+     * Creates a HikariConfig for the pool of read-only SQLite connections, used alongside the single writer connection.
+     *
+     * @param config         the database configuration
+     * @param metricsTracker the factory of the tracker receiving pool metrics, or null
+     * @return a HikariConfig instance configured for the SQLite readers
+     * @throws DatabaseInitializationException if there is an error during initialization or the database is not SQLite using write-ahead logging
+     */
+    public static HikariConfig getSqliteReaders(DatabaseConfig config, @Nullable MetricsTrackerFactory metricsTracker) throws DatabaseInitializationException {
+        final DatabaseConfig.SqliteConfig sqlite = config.getSqliteConfig();
+
+        if (!config.getDatabaseType().equals(SQLITE) || !sqlite.wal())
+            throw new DatabaseInitializationException("Reader connections are only supported for SQLite using write-ahead logging!");
+
+        final HikariConfig hikariConfig = get(config, metricsTracker);
+        hikariConfig.addDataSourceProperty("url", getFileJdbcUrl(config, getSqlitePragmas(sqlite, true)));
+        hikariConfig.addDataSourceProperty("readOnly", true);
+        hikariConfig.setMaximumPoolSize(sqlite.readerPoolSize());
+        hikariConfig.setMinimumIdle(Math.min(config.getMinIdle(), sqlite.readerPoolSize()));
+        hikariConfig.setPoolName("%s-reader-hikari".formatted(SQLITE.getJdbcPrefix()));
+
+        return hikariConfig;
+    }
+
+    /**
+     * Creates the jdbc url of a SQLite or H2 database file, creating its directory if missing.
+     *
+     * @param config     the database configuration
+     * @param properties additional connection properties appended to the defaults
+     * @return the jdbc url
+     * @throws DatabaseInitializationException if the database directory could not be created
+     */
+    private static String getFileJdbcUrl(DatabaseConfig config, String properties) throws DatabaseInitializationException {
+        final DatabaseType databaseType = config.getDatabaseType();
+        final Path path = config.getPath().orElseThrow(
+            () -> new DatabaseInitializationException("Path was null when setting up database!")
+        );
+
+        final String fileName = databaseType.equals(SQLITE) ? "database.sqlite" : "database";
+
+        if (!path.toFile().exists() && !path.toFile().mkdirs())
+            throw new DatabaseInitializationException("Failed to create database directory at path: %s".formatted(path.toAbsolutePath()));
+
+        final String defaults = databaseType.getDefaultConnectionProperties();
+        final boolean hasDefaults = defaults.length() > 1; // More than just the property prefix
+
+        return "jdbc:%s:file:%s%s%s%s".formatted(
+            databaseType.getJdbcPrefix(),
+            path.resolve(fileName).toAbsolutePath(),
+            defaults,
+            hasDefaults && !properties.isEmpty() ? databaseType.getJdbcPropertySeparator() : "",
+            properties
+        );
+    }
+
+    /**
+     * Creates the pragmas applied by the SQLite driver when opening a connection.
+     *
+     * @param sqlite   the SQLite configuration
+     * @param readOnly whether the connection only reads, skipping pragmas that would write to the database
+     * @return the pragmas as jdbc connection properties
+     */
+    private static String getSqlitePragmas(DatabaseConfig.SqliteConfig sqlite, boolean readOnly) {
+        final Map<String, Object> pragmas = new LinkedHashMap<>();
+        if (!readOnly) {
+            pragmas.put("journal_mode", sqlite.wal() ? "WAL" : "DELETE");
+            pragmas.put("synchronous", sqlite.wal() ? "NORMAL" : "FULL"); // NORMAL is durable in WAL mode except on power loss
+        }
+        pragmas.put("busy_timeout", sqlite.busyTimeout());
+        pragmas.put("cache_size", -sqlite.cacheSize()); // Negative values are in KiB instead of pages
+        pragmas.put("mmap_size", sqlite.mmapSize());
+        pragmas.put("temp_store", "MEMORY");
+        return SQLITE.formatJdbcConnectionProperties(pragmas);
+    }
+
+    /**
+     * Creates the H2 database settings for the performance profile.
+     *
+     * @param h2 the H2 configuration
+     * @return the settings as jdbc connection properties
+     */
+    private static String getH2Settings(DatabaseConfig.H2Config h2) {
+        final Map<String, Object> settings = new LinkedHashMap<>();
+        if (h2.multiProcess())
+            settings.put("AUTO_SERVER", "TRUE");
+        settings.put("CACHE_SIZE", h2.cacheSize());
+        settings.put("LOCK_TIMEOUT", h2.lockTimeout());
+        settings.put("WRITE_DELAY", h2.writeDelay());
+        settings.put("DB_CLOSE_ON_EXIT", "FALSE"); // The pool closes the database on shutdown, not the JVM shutdown hook
+        return H2.formatJdbcConnectionProperties(settings);
+    }
+
+    /**
+     * Creates the jdbc url of a MySQL or MariaDB server.
+     *
+     * @param config the database configuration
+     * @param host   the server host
+     * @param port   the server port
+     * @return the jdbc url
+     */
+    private static String getServerJdbcUrl(DatabaseConfig config, String host, int port) {
+        final DatabaseType databaseType = config.getDatabaseType();
+        return "jdbc:%s://%s:%s/%s%s%s".formatted(
+            databaseType.getJdbcPrefix(),
+            host,
+            port,
+            config.getDatabase(),
+            databaseType.getDefaultConnectionProperties(),
+            config.getConnectionProperties()
+        );
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.exampleuser.example.database.handler;
 
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.github.exampleuser.example.AbstractExample;
 import io.github.exampleuser.example.AbstractService;
@@ -10,9 +11,15 @@ import io.github.exampleuser.example.database.config.HikariConfigFactory;
 import io.github.exampleuser.example.database.exception.DatabaseInitializationException;
 import io.github.exampleuser.example.database.exception.DatabaseMigrationException;
 import io.github.exampleuser.example.database.jooq.JooqContext;
+import io.github.exampleuser.example.database.jooq.QueryStatsListener;
 import io.github.exampleuser.example.database.migration.FlywayManager;
+import io.github.exampleuser.example.database.migration.MigrationCache;
+import io.github.exampleuser.example.database.pool.PoolMetrics;
+import io.github.exampleuser.example.utility.DB;
+import org.bukkit.Bukkit;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.slf4j.Logger;
 
@@ -20,15 +27,29 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A class handling/managing the implementation {@literal &} lifecycle of the database service (HikariCP connection pool, jOOQ and Flyway migrations).
  */
 public final class DatabaseHandler extends AbstractService implements Reloadable {
     private static final String LOG_PREFIX = "[Database] ";
+    private static final long REPLICA_BASE_BACKOFF = 5000L;
+    private static final long REPLICA_MAX_BACKOFF = 300000L;
+    private static final String DATABASE_PACKAGE = DatabaseHandler.class.getPackageName().substring(0, DatabaseHandler.class.getPackageName().lastIndexOf('.') + 1);
     private final Logger logger;
     private JooqContext jooqContext;
+    private QueryStatsListener queryStats;
     private HikariDataSource connectionPool;
+    private @Nullable HikariDataSource readPool; // Read replica, or SQLite reader connections
+    private volatile long readPoolRetryAt = 0; // Read pool is skipped until this time after failing
+    private final AtomicInteger readPoolFailures = new AtomicInteger();
+    private PoolMetrics poolMetrics;
+    private ExecutorService queryExecutor;
+    private final Set<String> warnedCallSites = ConcurrentHashMap.newKeySet();
+    private volatile boolean enforceThreadPolicy = false; // Blocking calls are expected while the server starts and stops
     private DatabaseConfig config;
     private final boolean migrateOnStartup;
 
@@ -70,11 +91,20 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
         }
     }
 
+    /**
+     * On plugin enable.
+     */
+    @Override
+    public void onEnable(AbstractExample plugin) {
+        plugin.getServer().getGlobalRegionScheduler().run(plugin, task -> enforceThreadPolicy = true); // Runs on the first server tick, after startup completes
+    }
+
     /**
      * On plugin disable.
      */
     @Override
     public void onDisable(AbstractExample plugin) {
+        suspendThreadPolicy();
         try {
             doShutdown();
         } catch (Exception e) {
@@ -82,6 +112,14 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
         }
     }
 
+    /**
+     * Stops applying the {@link MainThreadPolicy} until the next enable. Call this before other handlers are
+     * disabled, as they may flush their pending writes on the server thread.
+     */
+    public void suspendThreadPolicy() {
+        enforceThreadPolicy = false;
+    }
+
     /**
      * Gets database.
      *
@@ -100,6 +138,24 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
         return jooqContext;
     }
 
+    /**
+     * Gets the listener recording statistics of all executed queries.
+     *
+     * @return the query statistics listener, or null if the database is not running
+     */
+    public QueryStatsListener getQueryStats() {
+        return queryStats;
+    }
+
+    /**
+     * Gets the metrics of the connection pool.
+     *
+     * @return the pool metrics, or null if the database is not running
+     */
+    public PoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
     /**
      * Gets database config.
      *
@@ -123,6 +179,8 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
     @NotNull
     @ApiStatus.Internal
     public Connection getConnection() throws SQLException {
+        checkThread();
+
         if (connectionPool == null)
             throw new SQLException(LOG_PREFIX + "Unable to get a connection from the pool. (connectionPool is null)");
 
@@ -133,6 +191,119 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
         return connection;
     }
 
+    /**
+     * Gets a connection for read-only queries.
+     * <p>
+     * Connections are taken from the read pool if one is configured and healthy, otherwise from the primary pool.
+     * The read pool is either a read replica, or read-only connections for SQLite using write-ahead logging.
+     * Replicas may lag behind the primary, so never use this to read data that was just written.
+     * A read pool that fails to hand out a connection is skipped with exponential backoff.
+     * </p>
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    @ApiStatus.Internal
+    public Connection getReadConnection() throws SQLException {
+        final HikariDataSource pool = readPool;
+        if (pool == null || System.currentTimeMillis() < readPoolRetryAt)
+            return getConnection();
+
+        checkThread();
+
+        try {
+            final Connection connection = pool.getConnection();
+            final int failures = readPoolFailures.getAndSet(0);
+            if (failures > 0)
+                logger.info(LOG_PREFIX + "Read pool recovered after {} failed attempts.", failures);
+            return connection;
+        } catch (SQLException e) {
+            final int failures = readPoolFailures.incrementAndGet();
+            final long backoff = Math.min(REPLICA_MAX_BACKOFF, REPLICA_BASE_BACKOFF << Math.min(failures - 1, 16));
+            readPoolRetryAt = System.currentTimeMillis() + backoff;
+            logger.warn(LOG_PREFIX + "Read pool is unavailable, using the primary database for the next {}ms: {}", backoff, e.getMessage());
+            return getConnection();
+        }
+    }
+
+    /**
+     * Whether reads are currently routed to the read pool.
+     *
+     * @return true if a read pool is configured and healthy
+     */
+    public boolean isReadPoolAvailable() {
+        return readPool != null && System.currentTimeMillis() >= readPoolRetryAt;
+    }
+
+    /**
+     * Whether a read pool was started.
+     *
+     * @return true if a read replica or SQLite reader pool is running
+     */
+    public boolean hasReadPool() {
+        return readPool != null;
+    }
+
+    /**
+     * Runs a query asynchronously on the query executor, which is sized to the connection pool.
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return a future completed with the query result, or completed exceptionally if the query failed
+     */
+    public <T> CompletableFuture<T> async(@NotNull QueryFunction<T> query) {
+        final ExecutorService executor = queryExecutor;
+        if (executor == null || executor.isShutdown())
+            return CompletableFuture.failedFuture(new IllegalStateException(LOG_PREFIX + "Unable to run query, the database is not running."));
+
+        return CompletableFuture.supplyAsync(() -> {
+            try (Connection con = getConnection()) {
+                return query.apply(jooqContext.createContext(con));
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Runs a query asynchronously inside a transaction on the query executor, which is sized to the connection pool.
+     * The transaction is rolled back if the query throws.
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return a future completed with the query result, or completed exceptionally if the query failed
+     */
+    public <T> CompletableFuture<T> asyncTransaction(@NotNull QueryFunction<T> query) {
+        return async(ctx -> ctx.transactionResult(config -> query.apply(config.dsl())));
+    }
+
+    /**
+     * Applies the configured {@link MainThreadPolicy} if a blocking call is made on the server thread.
+     *
+     * @throws IllegalStateException if the policy is {@link MainThreadPolicy#THROW}
+     */
+    private void checkThread() {
+        if (!enforceThreadPolicy || config == null || config.getMainThreadPolicy() == MainThreadPolicy.IGNORE)
+            return;
+
+        if (Bukkit.getServer() == null || Bukkit.getServer().isStopping() || !Bukkit.isPrimaryThread())
+            return;
+
+        if (config.getMainThreadPolicy() == MainThreadPolicy.THROW)
+            throw new IllegalStateException(LOG_PREFIX + "Blocking database call made on the server thread! Use DB.async instead.");
+
+        // Find the first caller outside the database layer, and warn once per call site
+        final String callSite = StackWalker.getInstance().walk(frames -> frames
+            .filter(f -> !f.getClassName().startsWith(DATABASE_PACKAGE) && !f.getClassName().equals(DB.class.getName()))
+            .findFirst()
+            .map(f -> f.getClassName() + "#" + f.getMethodName() + ":" + f.getLineNumber())
+            .orElse("unknown"));
+
+        if (warnedCallSites.add(callSite))
+            logger.warn(LOG_PREFIX + "Blocking database call made on the server thread from {}, this will cause lag! Use DB.async instead.", callSite, new Throwable("Call stack"));
+    }
+
     /**
      * Creates a connection pool using HikariCP and setups jOOQ DSLContext.
      * Should always be followed by running Flyway migrations with {@link #migrate()}.
@@ -150,7 +321,8 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
 
         // Initialize connection pool
         try {
-            connectionPool = new HikariDataSource(HikariConfigFactory.get(config));
+            poolMetrics = new PoolMetrics(logger, config.getSaturationThreshold(), config.getSaturationDuration());
+            connectionPool = new HikariDataSource(HikariConfigFactory.get(config, poolMetrics));
         } catch (Throwable t) {
             throw new DatabaseInitializationException("Failed to initialize database pool during startup. Are you using the correct database type?", t);
         }
@@ -169,21 +341,82 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
             throw new DatabaseInitializationException(t);
         }
 
+        poolMetrics.startMonitor();
+
+        // Initialize read pool, failures are not fatal as reads fall back to the primary
+        try {
+            final HikariConfig readPoolConfig = switch (getDB()) {
+                case MYSQL, MARIADB -> config.getReplicaConfig().enabled() ? HikariConfigFactory.getReplica(config, null) : null;
+                case SQLITE -> config.getSqliteConfig().wal() && config.getSqliteConfig().readerPoolSize() > 0 ? HikariConfigFactory.getSqliteReaders(config, null) : null;
+                case H2 -> null;
+            };
+
+            if (readPoolConfig != null) {
+                readPool = new HikariDataSource(readPoolConfig);
+                readPoolFailures.set(0);
+                readPoolRetryAt = 0;
+                logger.info(LOG_PREFIX + "Started read pool.");
+            }
+        } catch (Throwable t) {
+            logger.warn(LOG_PREFIX + "Failed to start read pool, reads will use the primary database.", t);
+        }
+
+        // Setup query executor
+        final AtomicInteger threadCount = new AtomicInteger();
+        queryExecutor = Executors.newFixedThreadPool(config.getPoolSize(), r -> { // More threads would only queue for connections
+            final Thread t = new Thread(r, "Database-Query-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
         // Setup JOOQ
         System.setProperty("org.jooq.no-logo", "true");
         System.setProperty("org.jooq.no-tips", "true");
+        queryStats = new QueryStatsListener(logger, config.getSlowQueryThreshold());
         jooqContext = new JooqContext(
             config.getDatabaseType().getSQLDialect(),
-            config.getTablePrefix()
+            config.getTablePrefix(),
+            queryStats
         );
 
         // Migrate
         if (migrateOnStartup)
             migrate();
 
+        warmup();
+
         logger.info(LOG_PREFIX + "Successfully started database pool.");
     }
 
+    /**
+     * Reports in the background once the connection pool has filled up to its minimum idle connections.
+     * <p>
+     * HikariCP only opens the first connection while starting, the rest are opened by its housekeeping thread. Startup
+     * therefore does not wait for them, and this logs how long the pool took to become warm.
+     * </p>
+     */
+    private void warmup() {
+        final HikariDataSource pool = connectionPool;
+        final int target = Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()); // The built pool, the factory may size it differently than configured
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getConnectionTimeout());
+
+        queryExecutor.execute(() -> {
+            try {
+                while (pool.getHikariPoolMXBean() != null && pool.getHikariPoolMXBean().getTotalConnections() < target) {
+                    if (pool.isClosed() || System.nanoTime() > deadline) {
+                        logger.warn(LOG_PREFIX + "Connection pool did not warm up to {} connections in {}ms.", target, config.getConnectionTimeout());
+                        return;
+                    }
+                    Thread.sleep(10L);
+                }
+                logger.info(LOG_PREFIX + "Connection pool warmed up to {} connections in {}ms.", target, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
     /**
      * Closes the connection pool.
      */
@@ -202,7 +435,29 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
             return;
         }
 
+        // Let queued queries finish before closing the pool
+        if (queryExecutor != null) {
+            queryExecutor.shutdown();
+            try {
+                if (!queryExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    logger.warn(LOG_PREFIX + "Timed out waiting for queued queries to finish.");
+                    queryExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                queryExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            queryExecutor = null;
+        }
+
         jooqContext = null;
+        queryStats = null;
+        poolMetrics.stopMonitor();
+        poolMetrics = null;
+        if (readPool != null) {
+            readPool.close();
+            readPool = null;
+        }
         connectionPool.close();
         connectionPool = null;
 
@@ -214,6 +469,19 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
      * Should always be run following the database being started using {@link #doStartup()}.
      */
     public void migrate() throws DatabaseInitializationException {
+        final long start = System.nanoTime();
+
+        // Skip scanning and validating migrations if nothing changed since the last migration
+        final @Nullable MigrationCache cache = config.getPath()
+            .filter(p -> !config.isRepair())
+            .map(p -> new MigrationCache(logger, config, p))
+            .orElse(null);
+
+        if (cache != null && cache.isCurrent(connectionPool)) {
+            logger.info(LOG_PREFIX + "Database schema is up to date, skipped migration in {}ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return;
+        }
+
         try {
             new FlywayManager(
                 logger,
@@ -222,8 +490,20 @@ public final class DatabaseHandler extends AbstractService implements Reloadable
             )
                 .migrate();
         } catch (DatabaseMigrationException e) {
+            if (cache != null)
+                cache.invalidate();
             throw new DatabaseInitializationException("Failed to migrate database schemas to new version! Please backup your database and report the issue.", e);
         }
+
+        final long migrated = System.nanoTime();
+        if (cache != null)
+            cache.update(connectionPool);
+
+        logger.info(LOG_PREFIX + "Migration phase took {}ms ({}ms Flyway, {}ms caching schema state).",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            TimeUnit.NANOSECONDS.toMillis(migrated - start),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - migrated)
+        );
     }
 
     /**
@@ -1,37 +1,35 @@
 package io.github.exampleuser.example.database.handler;
 
-import com.mysql.cj.jdbc.MysqlDataSource;
-import com.mysql.jdbc.Driver;
-import org.h2.jdbcx.JdbcDataSource;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.SQLDialect;
-import org.mariadb.jdbc.MariaDbDataSource;
-import org.sqlite.JDBC;
-import org.sqlite.SQLiteDataSource;
 
 import java.util.List;
 import java.util.Map;
 
 /**
  * Enum containing information for handling different Database types.
+ * <p>
+ * Drivers are referenced by class name only, as the plugin loader only puts the driver of the configured type on the
+ * classpath.
+ * </p>
  */
 public enum DatabaseType {
     /**
      * H2 database type.
      */
-    H2("H2", org.h2.Driver.class.getName(), JdbcDataSource.class.getName(), "h2", ';', ';'),
+    H2("H2", "org.h2.Driver", "org.h2.jdbcx.JdbcDataSource", "h2", ';', ';'),
     /**
      * SQLite database type.
      */
-    SQLITE("SQLite", JDBC.class.getName(), SQLiteDataSource.class.getName(), "sqlite", '?', '&'),
+    SQLITE("SQLite", "org.sqlite.JDBC", "org.sqlite.SQLiteDataSource", "sqlite", '?', '&'),
     /**
      * MySQL database type.
      */
-    MYSQL("MySQL", Driver.class.getName(), MysqlDataSource.class.getName(), "mysql", '?', '&'),
+    MYSQL("MySQL", "com.mysql.jdbc.Driver", "com.mysql.cj.jdbc.MysqlDataSource", "mysql", '?', '&'),
     /**
      * MariaDB database type.
      */
-    MARIADB("MariaDB", org.mariadb.jdbc.Driver.class.getName(), MariaDbDataSource.class.getName(), "mariadb", '?', '&'),
+    MARIADB("MariaDB", "org.mariadb.jdbc.Driver", "org.mariadb.jdbc.MariaDbDataSource", "mariadb", '?', '&'),
     ;
 
     private final String driverName;
@@ -198,7 +196,6 @@ public enum DatabaseType {
         return getJdbcPropertyPrefix() + switch (this) {
             case H2 -> DatabaseType.H2.formatJdbcConnectionProperties(
                 Map.of(
-                    "AUTO_SERVER", "TRUE",
                     "MODE", "MySQL",  // MySQL support mode
                     "CASE_INSENSITIVE_IDENTIFIERS", "TRUE",
                     "IGNORECASE", "TRUE"
@@ -206,45 +203,63 @@ public enum DatabaseType {
             );
             case SQLITE -> "";
             case MYSQL -> DatabaseType.MYSQL.formatJdbcConnectionProperties(
-                Map.of(
+                Map.ofEntries(
                     // Base settings
-                    "useUnicode", true,
-                    "characterEncoding", "UTF-8",
+                    Map.entry("useUnicode", true),
+                    Map.entry("characterEncoding", "UTF-8"),
 
-                    // Performance improvements
-                    "defaultFetchSize", 1000,
+                    // Stream results of queries with a fetch size using server-side cursors, instead of reading the full result into memory.
+                    // No default fetch size is set, so other queries still read their results in a single round-trip.
+                    Map.entry("useCursorFetch", true),
+
+                    // Prepared statement caching https://github.com/brettwooldridge/HikariCP/wiki/MySQL-Configuration
+                    Map.entry("cachePrepStmts", true),
+                    Map.entry("prepStmtCacheSize", 250),
+                    Map.entry("prepStmtCacheSqlLimit", 2048),
+                    Map.entry("useServerPrepStmts", true),
+                    Map.entry("useLocalSessionState", true),
+                    Map.entry("rewriteBatchedStatements", true),
+                    Map.entry("cacheResultSetMetadata", true),
+                    Map.entry("cacheServerConfiguration", true),
+                    Map.entry("maintainTimeStats", false),
 
                     // Help debug in case of deadlock
-                    "includeInnodbStatusInDeadlockExceptions", true,
-                    "includeThreadDumpInDeadlockExceptions", true,
+                    Map.entry("includeInnodbStatusInDeadlockExceptions", true),
+                    Map.entry("includeThreadDumpInDeadlockExceptions", true),
 
                     // https://github.com/brettwooldridge/HikariCP/wiki/Rapid-Recovery#mysql
-                    "socketTimeout", 14000L,
+                    Map.entry("socketTimeout", 14000L),
                     // Needed for use with connection init-SQL (hikariConf.setConnectionInitSql)
-                    "allowMultiQueries", true,
+                    Map.entry("allowMultiQueries", true),
                     // Help debug in case of exceptions
-                    "dumpQueriesOnException", true
+                    Map.entry("dumpQueriesOnException", true)
                 )
             );
             case MARIADB -> DatabaseType.MARIADB.formatJdbcConnectionProperties(
-                Map.of(
+                Map.ofEntries(
                     // Base settings
-                    "useUnicode", true,
-                    "characterEncoding", "UTF-8",
+                    Map.entry("useUnicode", true),
+                    Map.entry("characterEncoding", "UTF-8"),
 
                     // Performance improvements
-                    "defaultFetchSize", 1000,
+                    Map.entry("defaultFetchSize", 1000),
+
+                    // Prepared statement caching
+                    Map.entry("cachePrepStmts", true),
+                    Map.entry("prepStmtCacheSize", 250),
+                    Map.entry("useServerPrepStmts", true),
+                    Map.entry("useBulkStmts", true),
 
                     // Help debug in case of deadlock
-                    "includeInnodbStatusInDeadlockExceptions", true,
-                    "includeThreadDumpInDeadlockExceptions", true,
+                    Map.entry("includeInnodbStatusInDeadlockExceptions", true),
+                    Map.entry("includeThreadDumpInDeadlockExceptions", true),
 
                     // https://github.com/brettwooldridge/HikariCP/wiki/Rapid-Recovery#mysql
-                    "socketTimeout", 14000L,
+                    Map.entry("socketTimeout", 14000L),
                     // Needed for use with connection init-SQL (hikariConf.setConnectionInitSql)
-                    "allowMultiQueries", true,
+                    Map.entry("allowMultiQueries", true),
                     // Help debug in case of exceptions
-                    "dumpQueriesOnException", true
+                    Map.entry("dumpQueriesOnException", true)
                 )
             );
         };
@@ -0,0 +1,19 @@
+package io.github.exampleuser.example.database.handler;
+
+/**
+ * What to do when a blocking database call is made on the server thread.
+ */
+public enum MainThreadPolicy {
+    /**
+     * Allow the call silently.
+     */
+    IGNORE,
+    /**
+     * Allow the call, but log a warning with the stack trace the first time each call site does it.
+     */
+    WARN,
+    /**
+     * Reject the call by throwing an exception.
+     */
+    THROW
+}
@@ -0,0 +1,22 @@
+package io.github.exampleuser.example.database.handler;
+
+import org.jooq.DSLContext;
+
+import java.sql.SQLException;
+
+/**
+ * A database query executed with a {@link DSLContext} bound to a pooled connection.
+ *
+ * @param <T> the result type
+ */
+@FunctionalInterface
+public interface QueryFunction<T> {
+    /**
+     * Runs the query.
+     *
+     * @param ctx the context
+     * @return the result, may be null
+     * @throws SQLException if the query fails
+     */
+    T apply(DSLContext ctx) throws SQLException;
+}
@@ -0,0 +1,140 @@
+package io.github.exampleuser.example.database.jooq;
+
+import org.jetbrains.annotations.NotNull;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+
+import java.util.*;
+
+/**
+ * Upserts many records using multi-row statements, instead of executing one statement per record.
+ * <p>
+ * Every chunk of records is sent as a single statement in the form the dialect supports best:
+ * </p>
+ * <ul>
+ *     <li>MySQL/MariaDB: {@code INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE}</li>
+ *     <li>SQLite: {@code INSERT ... VALUES (...), (...) ON CONFLICT (...) DO UPDATE}</li>
+ *     <li>H2: {@code MERGE INTO ... USING (VALUES (...), (...))}</li>
+ * </ul>
+ * <p>
+ * Chunks are sized to stay below the bind parameter limit of the driver.
+ * </p>
+ * Usage:
+ * <pre>{@code
+ * BulkUpsert.execute(context, SOME_LIST, records);
+ * }</pre>
+ */
+public final class BulkUpsert {
+    private static final int MAX_ROWS = 1000; // Keeps statements well below the default max_allowed_packet of MySQL
+
+    private BulkUpsert() {
+    }
+
+    /**
+     * Upsert records into a table, updating every inserted non-key column on conflict with the primary key.
+     * <p>
+     * The inserted columns are the changed fields of the first record, all records are expected to have the same
+     * fields set.
+     * </p>
+     *
+     * @param ctx     the context to execute with
+     * @param table   the table
+     * @param records the records
+     * @param <R>     the record type
+     * @return the amount of affected rows, as reported by the driver
+     * @throws org.jooq.exception.DataAccessException if a statement fails
+     */
+    public static <R extends Record> int execute(@NotNull DSLContext ctx, @NotNull Table<R> table, @NotNull Collection<? extends R> records) {
+        final UniqueKey<R> primaryKey = table.getPrimaryKey();
+        if (primaryKey == null)
+            throw new IllegalArgumentException("Table " + table.getName() + " has no primary key");
+
+        return execute(ctx, table, records, primaryKey.getFields());
+    }
+
+    /**
+     * Upsert records into a table, updating every inserted non-key column on conflict with the given unique key.
+     * <p>
+     * The inserted columns are the changed fields of the first record, all records are expected to have the same
+     * fields set.
+     * </p>
+     *
+     * @param ctx     the context to execute with
+     * @param table   the table
+     * @param records the records
+     * @param keys    the columns of the primary or unique key identifying conflicting rows
+     * @param <R>     the record type
+     * @return the amount of affected rows, as reported by the driver
+     * @throws org.jooq.exception.DataAccessException if a statement fails
+     */
+    public static <R extends Record> int execute(@NotNull DSLContext ctx, @NotNull Table<R> table, @NotNull Collection<? extends R> records, @NotNull Collection<? extends Field<?>> keys) {
+        if (records.isEmpty())
+            return 0;
+
+        final R first = records.iterator().next();
+        final List<Field<?>> fields = Arrays.stream(table.fields())
+            .filter(first::changed)
+            .toList();
+
+        if (fields.isEmpty())
+            throw new IllegalArgumentException("Records have no fields set");
+
+        final Map<Field<?>, Field<?>> updates = new LinkedHashMap<>();
+        for (Field<?> field : fields) {
+            if (!keys.contains(field))
+                updates.put(field, DSL.excluded(field));
+        }
+
+        final int chunkSize = chunkSize(ctx.dialect(), fields.size());
+        final List<R> chunk = new ArrayList<>(Math.min(chunkSize, records.size()));
+        int affected = 0;
+
+        for (R record : records) {
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                affected += upsert(ctx, table, fields, keys, updates, chunk);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty())
+            affected += upsert(ctx, table, fields, keys, updates, chunk);
+
+        return affected;
+    }
+
+    private static <R extends Record> int upsert(DSLContext ctx, Table<R> table, List<Field<?>> fields, Collection<? extends Field<?>> keys, Map<Field<?>, Field<?>> updates, List<R> chunk) {
+        InsertValuesStepN<R> insert = ctx.insertInto(table, fields);
+        for (R record : chunk) {
+            final List<Object> values = new ArrayList<>(fields.size());
+            for (Field<?> field : fields)
+                values.add(record.get(field));
+            insert = insert.values(values);
+        }
+
+        return switch (ctx.family()) {
+            case MYSQL, MARIADB -> updates.isEmpty()
+                ? insert.onDuplicateKeyIgnore().execute()
+                : insert.onDuplicateKeyUpdate().set(updates).execute();
+            // jOOQ renders ON CONFLICT natively for SQLite, and emulates it with MERGE for H2
+            default -> updates.isEmpty()
+                ? insert.onConflict(keys).doNothing().execute()
+                : insert.onConflict(keys).doUpdate().set(updates).execute();
+        };
+    }
+
+    /**
+     * Gets the amount of rows per statement, bounded by the bind parameter limit of the driver.
+     *
+     * @param dialect the dialect
+     * @param columns the amount of columns per row
+     * @return the amount of rows
+     */
+    static int chunkSize(SQLDialect dialect, int columns) {
+        final int parameterLimit = switch (dialect.family()) {
+            case SQLITE -> 32766; // SQLITE_MAX_VARIABLE_NUMBER since 3.32.0
+            default -> 65535; // MySQL/MariaDB count prepared statement placeholders in an unsigned short
+        };
+        return Math.max(1, Math.min(MAX_ROWS, parameterLimit / columns));
+    }
+}
@@ -5,9 +5,11 @@ import org.jetbrains.annotations.TestOnly;
 import org.jooq.*;
 import org.jooq.conf.*;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConfiguration;
 import org.jooq.tools.JooqLogger;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.util.regex.Pattern;
 
@@ -21,8 +23,7 @@ public final class JooqContext {
 
     private static final Pattern MATCH_ALL_EXCEPT_INFORMATION_SCHEMA = Pattern.compile("^(?!INFORMATION_SCHEMA)(.*?)$");
     private static final Pattern MATCH_ALL = Pattern.compile("^(.*?)$");
-    private final SQLDialect dialect;
-    private final String replacement;
+    private final Configuration baseConfiguration;
 
     /**
      * Instantiates a new Jooq context.
@@ -31,8 +32,7 @@ public final class JooqContext {
      */
     @TestOnly
     public JooqContext(DatabaseConfig databaseConfig) {
-        this.dialect = databaseConfig.getDatabaseType().getSQLDialect();
-        this.replacement = "%s$0".formatted(databaseConfig.getTablePrefix());
+        this(databaseConfig.getDatabaseType().getSQLDialect(), databaseConfig.getTablePrefix());
     }
 
     /**
@@ -40,54 +40,71 @@ public final class JooqContext {
      *
      * @param dialect     the getSQLDialect
      * @param tablePrefix the prefix to add in front of tables
+     * @param listeners   the listeners notified of every query executed by contexts of this instance
      */
-    public JooqContext(SQLDialect dialect, String tablePrefix) {
-        this.dialect = dialect;
-        this.replacement = "%s$0".formatted(tablePrefix);
+    public JooqContext(SQLDialect dialect, String tablePrefix, ExecuteListener... listeners) {
+        this.baseConfiguration = new DefaultConfiguration()
+            .set(dialect)
+            .set(createSettings("%s$0".formatted(tablePrefix)))
+            .set(listeners);
     }
 
     /**
      * Create DSL Context.
+     * <p>
+     * The context is derived from a configuration built once at startup, so this only allocates the context itself
+     * and its connection provider.
+     * </p>
      *
      * @param connection the connection
      * @return the dsl context
      */
     public DSLContext createContext(Connection connection) {
-        record SimpleConnectionProvider(Connection connection) implements ConnectionProvider {
+        return baseConfiguration.derive(new SimpleConnectionProvider(connection)).dsl();
+    }
 
-            @Override
-            public Connection acquire() throws DataAccessException {
-                return connection;
-            }
+    /**
+     * Create a DSL Context bound to a data source, each query acquires and releases its own pooled connection.
+     *
+     * @param dataSource the data source
+     * @return the dsl context
+     */
+    public DSLContext createContext(DataSource dataSource) {
+        return baseConfiguration.derive(new DataSourceConnectionProvider(dataSource)).dsl();
+    }
 
-            @Override
-            public void release(Connection connection) throws DataAccessException {
-            }
-        }
-        return createWith(new SimpleConnectionProvider(connection));
+    /**
+     * Gets the configuration shared by all contexts created by this instance.
+     *
+     * @return the base configuration, which must not be modified
+     */
+    public Configuration getConfiguration() {
+        return baseConfiguration;
     }
 
     /**
-     * Applies default configuration
+     * A connection provider handing out a single connection, whose lifecycle is managed by the caller.
      *
-     * @param connectionProvider A connection lifecycle handler API.
-     * @return DSLContext
+     * @param connection the connection
      */
-    private DSLContext createWith(ConnectionProvider connectionProvider) {
-        return new DefaultConfiguration()
-            .set(connectionProvider)
-            .set(dialect)
-            .set(createSettings())
-            .set(new ExecuteListenerProvider[0])
-            .dsl();
+    private record SimpleConnectionProvider(Connection connection) implements ConnectionProvider {
+        @Override
+        public Connection acquire() throws DataAccessException {
+            return connection;
+        }
+
+        @Override
+        public void release(Connection connection) throws DataAccessException {
+        }
     }
 
     /**
      * Returns base settings for DSL Contexts.
      *
+     * @param replacement the table name replacement adding the table prefix
      * @return Settings
      */
-    private Settings createSettings() {
+    private static Settings createSettings(String replacement) {
         return new Settings()
             .withBackslashEscaping(BackslashEscaping.OFF)
             .withRenderSchema(false)
@@ -0,0 +1,97 @@
+package io.github.exampleuser.example.database.jooq;
+
+import io.github.exampleuser.example.api.database.QueryStatistics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator of the execution statistics of one SQL fingerprint.
+ * <p>
+ * Latencies are recorded in a histogram of power of two microsecond buckets, ranging from 1µs to over 4 seconds.
+ * </p>
+ */
+public final class QueryStats implements QueryStatistics {
+    private static final int BUCKETS = 24;
+
+    private final String fingerprint;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    QueryStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Record an execution.
+     *
+     * @param nanos  the latency in nanoseconds
+     * @param rows   the amount of rows fetched or affected
+     * @param failed whether the execution threw an exception
+     */
+    void record(long nanos, long rows, boolean failed) {
+        executions.increment();
+        totalNanos.add(nanos);
+        this.rows.add(rows);
+        if (failed)
+            failures.increment();
+
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+    }
+
+    @Override
+    public @NotNull String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000D;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        final long count = getExecutions();
+        return count == 0 ? 0 : getTotalMillis() / count;
+    }
+
+    @Override
+    public double getPercentileMillis(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += histogram.get(i);
+
+        if (total == 0)
+            return 0;
+
+        final long rank = Math.max(1, (long) Math.ceil(Math.clamp(percentile, 0D, 1D) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram.get(i);
+            if (seen >= rank)
+                return (1L << i) / 1_000D; // Upper bound of the bucket
+        }
+        return (1L << (BUCKETS - 1)) / 1_000D;
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.exampleuser.example.database.jooq;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.slf4j.Logger;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ExecuteListener} recording latency, rows and failures of every executed query, grouped by SQL fingerprint.
+ * <p>
+ * Queries slower than the configured threshold are logged.
+ * </p>
+ */
+public final class QueryStatsListener implements ExecuteListener {
+    private static final String LOG_PREFIX = "[Database] ";
+    private static final Object EXECUTION_KEY = new Object();
+    private static final int MAX_FINGERPRINTS = 1024; // Guards against unbounded growth from queries with dynamic shapes
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    private final Logger logger;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>(); // jOOQ renders the same SQL for every query of the same shape, with bind values as placeholders, so few distinct strings are seen
+
+    /**
+     * Instantiates a new query statistics listener.
+     *
+     * @param logger             the logger used for slow queries
+     * @param slowQueryThreshold the slow query threshold in milliseconds, or 0 to disable slow query logging
+     */
+    public QueryStatsListener(@NotNull Logger logger, long slowQueryThreshold) {
+        this.logger = logger;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(EXECUTION_KEY, new Execution(System.nanoTime()));
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        final Execution execution = execution(ctx);
+        if (execution != null)
+            execution.rows++;
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        complete(ctx, true);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        complete(ctx, false);
+    }
+
+    /**
+     * Record an execution once, jOOQ may call {@link #end(ExecuteContext)} after {@link #exception(ExecuteContext)}.
+     */
+    private void complete(ExecuteContext ctx, boolean failed) {
+        final Execution execution = execution(ctx);
+        if (execution == null || execution.recorded)
+            return;
+        execution.recorded = true;
+
+        final String sql = sql(ctx);
+        if (sql == null)
+            return;
+
+        final long nanos = System.nanoTime() - execution.start;
+        final long rows = execution.rows > 0 ? execution.rows : Math.max(0, ctx.rows());
+
+        final QueryStats queryStats = getOrCreate(fingerprint(sql));
+        if (queryStats != null)
+            queryStats.record(nanos, rows, failed);
+
+        if (slowQueryThresholdNanos > 0 && nanos >= slowQueryThresholdNanos)
+            logger.warn(LOG_PREFIX + "Slow query took {}ms ({} rows): {}", TimeUnit.NANOSECONDS.toMillis(nanos), rows, abbreviate(sql));
+    }
+
+    /**
+     * Gets the statistics of all recorded fingerprints, ordered by total time spent descending.
+     *
+     * @return the statistics
+     */
+    public @NotNull List<QueryStats> getStatistics() {
+        return stats.values().stream()
+            .sorted(Comparator.comparingDouble(QueryStats::getTotalMillis).reversed())
+            .toList();
+    }
+
+    /**
+     * Clear all recorded statistics.
+     */
+    public void reset() {
+        stats.clear();
+        fingerprints.clear();
+    }
+
+    private @Nullable QueryStats getOrCreate(String fingerprint) {
+        final QueryStats existing = stats.get(fingerprint);
+        if (existing != null)
+            return existing;
+
+        if (stats.size() >= MAX_FINGERPRINTS)
+            return null;
+
+        return stats.computeIfAbsent(fingerprint, QueryStats::new);
+    }
+
+    private String fingerprint(String sql) {
+        final String cached = fingerprints.get(sql);
+        if (cached != null)
+            return cached;
+
+        final String fingerprint = normalize(sql);
+        if (fingerprints.size() < MAX_FINGERPRINTS * 4)
+            fingerprints.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    private static @Nullable Execution execution(ExecuteContext ctx) {
+        return ctx.data(EXECUTION_KEY) instanceof Execution execution ? execution : null;
+    }
+
+    private static @Nullable String sql(ExecuteContext ctx) {
+        if (ctx.sql() != null)
+            return ctx.sql();
+
+        final String[] batchSql = ctx.batchSQL();
+        return batchSql.length == 0 ? null : batchSql[0];
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * Normalize SQL into a fingerprint, replacing literals with placeholders and collapsing whitespace and lists of
+     * placeholders, so queries only differing in their values or the length of {@code IN} lists share a fingerprint.
+     *
+     * @param sql the sql
+     * @return the fingerprint
+     */
+    static String normalize(String sql) {
+        final StringBuilder sb = new StringBuilder(sql.length());
+        final int length = sql.length();
+
+        for (int i = 0; i < length; i++) {
+            final char c = sql.charAt(i);
+
+            if (c == '\'') { // String literal
+                i++;
+                while (i < length && !(sql.charAt(i) == '\'' && (i + 1 >= length || sql.charAt(i + 1) != '\'')))
+                    i += sql.charAt(i) == '\'' ? 2 : 1;
+                sb.append('?');
+            } else if (c == '"' || c == '`') { // Quoted identifier
+                final int end = sql.indexOf(c, i + 1);
+                final int stop = end == -1 ? length - 1 : end;
+                sb.append(sql, i, stop + 1);
+                i = stop;
+            } else if (Character.isDigit(c) && !isIdentifierPart(sb)) { // Numeric literal
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.'))
+                    i++;
+                sb.append('?');
+            } else if (Character.isWhitespace(c)) {
+                if (!sb.isEmpty() && sb.charAt(sb.length() - 1) != ' ')
+                    sb.append(' ');
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return collapseLists(sb.toString().trim());
+    }
+
+    private static boolean isIdentifierPart(StringBuilder sb) {
+        if (sb.isEmpty())
+            return false;
+
+        final char previous = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_';
+    }
+
+    /**
+     * Collapse {@code (?, ?, ?)} into {@code (?...)} and repeated {@code (?...), (?...)} rows into one.
+     */
+    private static String collapseLists(String sql) {
+        return sql
+            .replaceAll("\\(\\?(?:, ?\\?)+\\)", "(?...)")
+            .replaceAll("\\(\\?\\.\\.\\.\\)(?:, ?\\(\\?\\.\\.\\.\\))+", "(?...)...");
+    }
+
+    /**
+     * Mutable state of a single query execution.
+     */
+    private static final class Execution {
+        private final long start;
+        private long rows;
+        private boolean recorded;
+
+        private Execution(long start) {
+            this.start = start;
+        }
+    }
+}
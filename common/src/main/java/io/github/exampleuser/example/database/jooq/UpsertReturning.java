@@ -0,0 +1,61 @@
+package io.github.exampleuser.example.database.jooq;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+
+/**
+ * Executes an upsert and fetches the key of the inserted or updated row in the same round-trip.
+ * <p>
+ * Fetching the key with {@link DSLContext#lastID()} takes a second query, and on a pooled connection it may return the
+ * key of another statement. Instead, the key is returned by the upsert itself in the form the dialect supports best:
+ * </p>
+ * <ul>
+ *     <li>SQLite: {@code INSERT ... ON CONFLICT DO UPDATE ... RETURNING}, supported since SQLite 3.35</li>
+ *     <li>MySQL/MariaDB: {@code INSERT ... ON DUPLICATE KEY UPDATE} with the key read from
+ *     {@link java.sql.Statement#getGeneratedKeys()}, updated rows report their key through {@code LAST_INSERT_ID(key)}</li>
+ *     <li>H2: {@code SELECT ... FROM FINAL TABLE (MERGE ...)}</li>
+ * </ul>
+ * Usage:
+ * <pre>{@code
+ * Integer id = UpsertReturning.fetchKey(context, context
+ *     .insertInto(COLORS, COLORS.SOME_FIELD)
+ *     .values("name")
+ *     .onDuplicateKeyUpdate()
+ *     .set(COLORS.SOME_FIELD, "name"),
+ *     COLORS.COLOR_ID
+ * );
+ * }</pre>
+ */
+public final class UpsertReturning {
+    private UpsertReturning() {
+    }
+
+    /**
+     * Execute an upsert and fetch the key of the affected row.
+     *
+     * @param ctx    the context to execute with
+     * @param upsert the upsert, built with {@code onDuplicateKeyUpdate()}. On MySQL and MariaDB this step is modified
+     *               in place to set {@code key = LAST_INSERT_ID(key)}, so it should not be reused afterwards
+     * @param key    the auto-incrementing key of the table
+     * @param <R>    the record type
+     * @param <T>    the key type
+     * @return the key, or null if no row was affected
+     * @throws org.jooq.exception.DataAccessException if the query failed
+     */
+    public static <R extends Record, T> @Nullable T fetchKey(@NotNull DSLContext ctx, @NotNull InsertOnDuplicateSetMoreStep<R> upsert, @NotNull TableField<R, T> key) {
+        return switch (ctx.family()) {
+            case MYSQL, MARIADB -> fetchReturning(
+                upsert.set(key, DSL.field("LAST_INSERT_ID({0})", key.getDataType(), key)),
+                key
+            );
+            default -> fetchReturning(upsert, key); // jOOQ renders RETURNING on SQLite and FINAL TABLE on H2
+        };
+    }
+
+    private static <R extends Record, T> @Nullable T fetchReturning(InsertOnDuplicateSetMoreStep<R> upsert, TableField<R, T> key) {
+        final Record1<T> record = upsert.returningResult(key).fetchOne();
+        return record == null ? null : record.value1();
+    }
+}
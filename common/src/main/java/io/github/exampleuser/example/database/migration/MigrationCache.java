@@ -0,0 +1,188 @@
+package io.github.exampleuser.example.database.migration;
+
+import io.github.exampleuser.example.database.config.DatabaseConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+
+/**
+ * Remembers the state of the schema after the last successful migration, so startup can skip Flyway when nothing changed.
+ * <p>
+ * Running Flyway scans the migration locations on the classpath and validates the checksum of every applied migration.
+ * Instead, this hashes the migrations bundled in the plugin jar, using the checksums stored in the jar index without
+ * reading them, and the rows of the schema history table. If both hashes match the ones stored after the last
+ * migration, the schema is current and Flyway does not need to run.
+ * </p>
+ * <p>
+ * The schema history is part of the hash, so a database migrated, repaired or reset by another server is noticed.
+ * </p>
+ */
+public final class MigrationCache {
+    private static final String LOG_PREFIX = "[Database] ";
+    private static final String FILE_NAME = "migrations.sha256";
+
+    private final Logger logger;
+    private final DatabaseConfig databaseConfig;
+    private final Path file;
+
+    /**
+     * Instantiates a new migration cache.
+     *
+     * @param logger         the logger
+     * @param databaseConfig the database config
+     * @param directory      the directory to store the cache in
+     */
+    public MigrationCache(@NotNull Logger logger, @NotNull DatabaseConfig databaseConfig, @NotNull Path directory) {
+        this.logger = Objects.requireNonNull(logger, "Logger cannot be null");
+        this.databaseConfig = Objects.requireNonNull(databaseConfig, "DatabaseConfig cannot be null");
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    /**
+     * Check whether the database schema is current, meaning nothing changed since the last migration.
+     *
+     * @param dataSource the data source
+     * @return true if migrating can be skipped
+     */
+    public boolean isCurrent(@NotNull DataSource dataSource) {
+        if (!Files.isRegularFile(file))
+            return false;
+
+        try {
+            final String cached = Files.readString(file, StandardCharsets.UTF_8).trim();
+            return cached.equals(hash(dataSource));
+        } catch (Exception e) {
+            logger.debug(LOG_PREFIX + "Could not check migration cache, migrating normally.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Store the current state after a successful migration.
+     *
+     * @param dataSource the data source
+     */
+    public void update(@NotNull DataSource dataSource) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, hash(dataSource), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            logger.warn(LOG_PREFIX + "Failed to write migration cache, the next startup will run a full migration.", e);
+        }
+    }
+
+    /**
+     * Forget the stored state, so the next startup runs a full migration.
+     */
+    public void invalidate() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn(LOG_PREFIX + "Failed to delete migration cache.", e);
+        }
+    }
+
+    private String hash(DataSource dataSource) throws Exception {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        update(digest, databaseConfig.getDatabaseType().getJdbcPrefix());
+        update(digest, databaseConfig.getTablePrefix());
+        hashMigrations(digest);
+        hashSchemaHistory(digest, dataSource);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hash the names and checksums of the bundled migrations in the locations used by {@link FlywayManager}.
+     */
+    private void hashMigrations(MessageDigest digest) throws IOException, URISyntaxException {
+        final List<String> locations = List.of(
+            getClass().getPackageName().replace('.', '/') + "/migrations/",
+            "db/migration/%s/".formatted(databaseConfig.getDatabaseType().getJdbcPrefix())
+        );
+
+        final @Nullable CodeSource codeSource = getClass().getProtectionDomain().getCodeSource();
+        if (codeSource == null)
+            throw new IOException("Plugin code source is unavailable");
+
+        final Path source = Path.of(codeSource.getLocation().toURI());
+        if (Files.isDirectory(source)) { // Running from build directories, like in tests, where classes and resources are apart
+            for (String location : locations) {
+                for (URL url : Collections.list(getClass().getClassLoader().getResources(location))) {
+                    if (url.getProtocol().equals("file"))
+                        hashDirectory(digest, Path.of(url.toURI()));
+                }
+            }
+            return;
+        }
+
+        try (JarFile jar = new JarFile(source.toFile())) {
+            jar.stream()
+                .filter(entry -> !entry.isDirectory() && locations.stream().anyMatch(entry.getName()::startsWith))
+                .sorted(Comparator.comparing(JarEntry::getName))
+                .forEach(entry -> {
+                    update(digest, entry.getName());
+                    update(digest, Long.toString(entry.getCrc()));
+                });
+        }
+    }
+
+    private void hashDirectory(MessageDigest digest, Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.filter(Files::isRegularFile).sorted().toList()) {
+                update(digest, directory.relativize(path).toString().replace('\\', '/'));
+                try (InputStream in = Files.newInputStream(path)) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+        }
+    }
+
+    /**
+     * Hash every row of the schema history table, failing if the table does not exist yet.
+     */
+    private void hashSchemaHistory(MessageDigest digest, DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            // Not using the plugin context, as it would prefix the table name a second time
+            final List<Record> rows = DSL.using(connection, databaseConfig.getDatabaseType().getSQLDialect())
+                .select(field(name("installed_rank")), field(name("version")), field(name("checksum")), field(name("success")))
+                .from(DSL.table(name(databaseConfig.getTablePrefix() + "schema_history")))
+                .orderBy(field(name("installed_rank")))
+                .fetch();
+
+            for (Record row : rows) {
+                for (Object value : row.intoArray())
+                    update(digest, String.valueOf(value));
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
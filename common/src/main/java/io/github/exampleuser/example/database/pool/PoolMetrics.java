@@ -0,0 +1,198 @@
+package io.github.exampleuser.example.database.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A HikariCP {@link MetricsTrackerFactory} recording connection acquire latency, usage time and timeouts, and warning
+ * when threads are kept waiting for connections.
+ * <p>
+ * The pool is considered saturated when at least {@code saturationThreshold} threads are waiting for a connection. A
+ * warning is logged once the pool has stayed saturated for {@code saturationDuration}, which means the pool size or
+ * {@code connectionTimeout} are the bottleneck.
+ * </p>
+ */
+public final class PoolMetrics implements MetricsTrackerFactory {
+    private static final String LOG_PREFIX = "[Database] ";
+    private static final long CHECK_INTERVAL = 1000L;
+
+    private final Logger logger;
+    private final int saturationThreshold;
+    private final long saturationDuration;
+
+    private final Timer acquire = new Timer();
+    private final Timer usage = new Timer();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile @Nullable PoolStats poolStats;
+    private @Nullable ScheduledExecutorService monitor;
+
+    // Only accessed by the monitor thread
+    private long saturatedSince = -1;
+    private boolean warned;
+
+    /**
+     * Instantiates new pool metrics.
+     *
+     * @param logger              the logger used for saturation warnings
+     * @param saturationThreshold the amount of waiting threads at which the pool is saturated, or 0 to disable warnings
+     * @param saturationDuration  the time in milliseconds the pool must stay saturated before warning
+     */
+    public PoolMetrics(@NotNull Logger logger, int saturationThreshold, long saturationDuration) {
+        this.logger = logger;
+        this.saturationThreshold = saturationThreshold;
+        this.saturationDuration = saturationDuration;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * Start checking the pool for saturation.
+     */
+    public void startMonitor() {
+        if (saturationThreshold <= 0 || monitor != null)
+            return;
+
+        monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "Database-Pool-Monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        monitor.scheduleAtFixedRate(this::checkSaturation, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop checking the pool for saturation.
+     */
+    public void stopMonitor() {
+        if (monitor == null)
+            return;
+
+        monitor.shutdownNow();
+        monitor = null;
+    }
+
+    private void checkSaturation() {
+        final PoolStats stats = poolStats;
+        if (stats == null)
+            return;
+
+        final int pending = stats.getPendingThreads();
+        final long now = System.currentTimeMillis();
+
+        if (pending < saturationThreshold) {
+            if (warned)
+                logger.info(LOG_PREFIX + "Connection pool is no longer saturated after {}ms.", now - saturatedSince);
+            saturatedSince = -1;
+            warned = false;
+            return;
+        }
+
+        if (saturatedSince == -1)
+            saturatedSince = now;
+
+        if (!warned && now - saturatedSince >= saturationDuration) {
+            warned = true;
+            logger.warn(
+                LOG_PREFIX + "Connection pool saturated for {}ms: {} threads waiting, {}/{} connections in use, {} timeouts so far. Consider increasing maxpoolsize or moving queries off hot paths.",
+                now - saturatedSince,
+                pending,
+                stats.getActiveConnections(),
+                stats.getMaxConnections(),
+                timeouts.sum()
+            );
+        }
+    }
+
+    /**
+     * Gets a snapshot of the pool metrics.
+     *
+     * @return the snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        final PoolStats stats = poolStats;
+        return new Snapshot(
+            stats == null ? 0 : stats.getActiveConnections(),
+            stats == null ? 0 : stats.getIdleConnections(),
+            stats == null ? 0 : stats.getTotalConnections(),
+            stats == null ? 0 : stats.getMaxConnections(),
+            stats == null ? 0 : stats.getPendingThreads(),
+            acquire.count.sum(),
+            acquire.meanMillis(),
+            acquire.maxMillis(),
+            usage.meanMillis(),
+            usage.maxMillis(),
+            timeouts.sum()
+        );
+    }
+
+    /**
+     * A snapshot of the pool metrics.
+     *
+     * @param active      the amount of connections in use
+     * @param idle        the amount of idle connections
+     * @param total       the amount of open connections
+     * @param max         the maximum pool size
+     * @param pending     the amount of threads waiting for a connection
+     * @param acquired    the amount of connections handed out
+     * @param acquireMean the mean time waited for a connection in milliseconds
+     * @param acquireMax  the longest time waited for a connection in milliseconds
+     * @param usageMean   the mean time a connection was borrowed in milliseconds
+     * @param usageMax    the longest time a connection was borrowed in milliseconds
+     * @param timeouts    the amount of requests that timed out waiting for a connection
+     */
+    public record Snapshot(int active, int idle, int total, int max, int pending, long acquired, double acquireMean, double acquireMax, double usageMean, double usageMax, long timeouts) {
+    }
+
+    /**
+     * Accumulates count, total and maximum of durations.
+     */
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        double meanMillis() {
+            final long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / 1_000_000D / n;
+        }
+
+        double maxMillis() {
+            return maxNanos.get() / 1_000_000D;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import io.github.exampleuser.example.messaging.caching.CacheSet;
 import io.github.exampleuser.example.messaging.config.MessagingConfig;
 import io.github.exampleuser.example.messaging.exception.MessagingEnablingException;
 import io.github.exampleuser.example.messaging.exception.MessagingInitializationException;
+import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
 import io.github.exampleuser.example.messaging.message.Message;
 import io.github.exampleuser.example.messaging.message.OutgoingMessage;
 import io.github.exampleuser.example.utility.DB;
@@ -118,6 +119,8 @@ public final class MessagingHandler extends AbstractService implements Reloadabl
 
         logger.info(LOG_PREFIX + "Starting message broker...");
 
+        BidirectionalMessage.setCompressionThreshold(config.compressionThreshold());
+
         receivedMessageIds = new CacheSet<>(10, TimeUnit.MINUTES);
         broker = switch (config.brokerType()) {
             case PLUGIN_MESSAGING -> new PluginBroker(this, implementationName);
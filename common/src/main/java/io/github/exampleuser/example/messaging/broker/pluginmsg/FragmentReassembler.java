@@ -0,0 +1,170 @@
+package io.github.exampleuser.example.messaging.broker.pluginmsg;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Puts messages split by {@link MessageFragmenter} back together.
+ *
+ * <p>Fragments may arrive in any order and more than once. Incomplete messages are buffered, bounded by the amount
+ * of messages and the amount of bytes buffered, evicting the oldest message when either is exceeded. Messages that
+ * stay incomplete for longer than the timeout, like when the player carrying them disconnected, are evicted as well.
+ */
+public final class FragmentReassembler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FragmentReassembler.class);
+
+    private final int maxMessages;
+    private final long maxBytes;
+    private final long timeoutNanos;
+    private final LinkedHashMap<UUID, PartialMessage> pending = new LinkedHashMap<>(); // Ordered by first fragment received
+    private long bufferedBytes;
+
+    /**
+     * Instantiates a new fragment reassembler.
+     *
+     * @param maxMessages the maximum amount of incomplete messages to buffer
+     * @param maxBytes    the maximum amount of bytes of incomplete messages to buffer
+     * @param timeout     how long to wait for the missing fragments of a message
+     */
+    public FragmentReassembler(int maxMessages, long maxBytes, @NotNull Duration timeout) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Handles a received packet.
+     *
+     * @param packet the packet
+     * @return the encoded message if the packet completed one, or null if fragments are missing
+     * @throws IOException if the packet is malformed
+     */
+    public synchronized byte @Nullable [] receive(byte @NotNull [] packet) throws IOException {
+        if (packet.length == 0)
+            throw new EOFException("Packet is empty");
+
+        return switch (packet[0]) {
+            case MessageFragmenter.COMPLETE -> Arrays.copyOfRange(packet, 1, packet.length);
+            case MessageFragmenter.FRAGMENT -> receiveFragment(packet);
+            default -> throw new IOException("Unknown packet type " + packet[0]);
+        };
+    }
+
+    private byte @Nullable [] receiveFragment(byte[] packet) throws IOException {
+        if (packet.length <= MessageFragmenter.FRAGMENT_HEADER_LENGTH)
+            throw new EOFException("Fragment is truncated");
+
+        final ByteBuffer buffer = ByteBuffer.wrap(packet, 1, MessageFragmenter.FRAGMENT_HEADER_LENGTH - 1);
+        final UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        final int index = Short.toUnsignedInt(buffer.getShort());
+        final int count = Short.toUnsignedInt(buffer.getShort());
+        if (count < 2 || index >= count)
+            throw new IOException("Invalid fragment " + index + " of " + count + " for message " + id);
+
+        final long now = System.nanoTime();
+        evictExpired(now);
+
+        final int length = packet.length - MessageFragmenter.FRAGMENT_HEADER_LENGTH;
+        PartialMessage message = pending.get(id);
+        if (message == null) {
+            if ((long) (count - 1) * length > maxBytes) // Every fragment but the last is as large as this one or larger
+                throw new IOException("Message " + id + " of " + count + " fragments is larger than the reassembly buffer");
+
+            message = new PartialMessage(new byte[count][], now);
+            pending.put(id, message);
+        } else if (message.fragments.length != count) {
+            remove(id);
+            throw new IOException("Fragment count of message " + id + " changed from " + message.fragments.length + " to " + count);
+        }
+
+        if (message.fragments[index] != null) // Duplicate
+            return null;
+
+        message.fragments[index] = Arrays.copyOfRange(packet, MessageFragmenter.FRAGMENT_HEADER_LENGTH, packet.length);
+        message.received++;
+        message.size += length;
+        bufferedBytes += length;
+
+        if (message.received == count) {
+            remove(id);
+            return message.join();
+        }
+
+        evictOverflow();
+        return null;
+    }
+
+    private void evictExpired(long now) {
+        final Iterator<Map.Entry<UUID, PartialMessage>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<UUID, PartialMessage> entry = iterator.next();
+            if (now - entry.getValue().firstReceived < timeoutNanos)
+                break; // Later entries were received after this one
+
+            LOGGER.warn("Dropping message {} after {} of {} fragments, the remaining fragments were not received in time.", entry.getKey(), entry.getValue().received, entry.getValue().fragments.length);
+            bufferedBytes -= entry.getValue().size;
+            iterator.remove();
+        }
+    }
+
+    private void evictOverflow() {
+        while (!pending.isEmpty() && (pending.size() > maxMessages || bufferedBytes > maxBytes)) {
+            final Map.Entry<UUID, PartialMessage> oldest = pending.entrySet().iterator().next();
+            LOGGER.warn("Dropping message {} after {} of {} fragments, too many incomplete messages are buffered.", oldest.getKey(), oldest.getValue().received, oldest.getValue().fragments.length);
+            remove(oldest.getKey());
+        }
+    }
+
+    private void remove(UUID id) {
+        final PartialMessage message = pending.remove(id);
+        if (message != null)
+            bufferedBytes -= message.size;
+    }
+
+    /**
+     * Discards all incomplete messages.
+     */
+    public synchronized void clear() {
+        pending.clear();
+        bufferedBytes = 0;
+    }
+
+    /**
+     * Gets the amount of incomplete messages buffered.
+     *
+     * @return the amount of messages
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    private static final class PartialMessage {
+        private final byte[][] fragments;
+        private final long firstReceived;
+        private int received;
+        private long size;
+
+        private PartialMessage(byte[][] fragments, long firstReceived) {
+            this.fragments = fragments;
+            this.firstReceived = firstReceived;
+        }
+
+        private byte[] join() {
+            final byte[] message = new byte[Math.toIntExact(size)];
+            int offset = 0;
+            for (byte[] fragment : fragments) {
+                System.arraycopy(fragment, 0, message, offset, fragment.length);
+                offset += fragment.length;
+            }
+            return message;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.exampleuser.example.messaging.broker.pluginmsg;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Splits encoded messages into plugin message packets no larger than the limit of the platform.
+ *
+ * <p><b>Packet format</b>:
+ * <ol>
+ *   <li>Type: one byte, {@link #COMPLETE} or {@link #FRAGMENT}</li>
+ *   <li>For a complete packet, the whole message</li>
+ *   <li>For a fragment, the message UUID as two longs, the fragment index and the fragment count as
+ *   unsigned shorts, followed by the fragment of the message</li>
+ * </ol>
+ * Messages that fit in a single packet are sent as a complete packet, only adding the type byte. Fragments are
+ * put back together by a {@link FragmentReassembler}.
+ */
+public final class MessageFragmenter {
+    static final byte COMPLETE = 0;
+    static final byte FRAGMENT = 1;
+    static final int FRAGMENT_HEADER_LENGTH = 1 + 16 + 2 + 2;
+    static final int MAX_FRAGMENTS = 0xFFFF;
+
+    private MessageFragmenter() {
+    }
+
+    /**
+     * Splits an encoded message into packets.
+     *
+     * @param id            the message UUID, identifying the fragments of this message
+     * @param message       the encoded message
+     * @param maxPacketSize the maximum size of a packet in bytes
+     * @return the packets to send, in order
+     * @throws IllegalArgumentException if the message needs more than {@value #MAX_FRAGMENTS} fragments
+     */
+    public static @NotNull List<byte[]> split(@NotNull UUID id, byte @NotNull [] message, int maxPacketSize) throws IllegalArgumentException {
+        if (message.length < maxPacketSize) {
+            final byte[] packet = new byte[message.length + 1];
+            packet[0] = COMPLETE;
+            System.arraycopy(message, 0, packet, 1, message.length);
+            return List.of(packet);
+        }
+
+        final int fragmentSize = maxPacketSize - FRAGMENT_HEADER_LENGTH;
+        final int count = (message.length + fragmentSize - 1) / fragmentSize;
+        if (count > MAX_FRAGMENTS)
+            throw new IllegalArgumentException("Message of " + message.length + " bytes is too large to send as plugin messages");
+
+        final List<byte[]> packets = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final int offset = index * fragmentSize;
+            final int length = Math.min(fragmentSize, message.length - offset);
+            packets.add(ByteBuffer.allocate(FRAGMENT_HEADER_LENGTH + length)
+                .put(FRAGMENT)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .putShort((short) index)
+                .putShort((short) count)
+                .put(message, offset, length)
+                .array());
+        }
+        return packets;
+    }
+}
@@ -7,21 +7,38 @@ import io.github.exampleuser.example.messaging.config.MessagingConfig;
 import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
 import io.github.exampleuser.example.messaging.message.OutgoingMessage;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.Messenger;
 import org.bukkit.plugin.messaging.PluginMessageListener;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementation of the plugin messaging system as a message broker
+ * <p>
+ * Plugin messages are limited to {@link Messenger#MAX_MESSAGE_SIZE} bytes, larger messages are split into fragments
+ * by {@link MessageFragmenter} and put back together by a {@link FragmentReassembler} on the receiving server.
+ * Messages larger than the 16 MiB reassembly buffer are rejected when sending.
+ * </p>
  */
 @SuppressWarnings({"FieldCanBeLocal", "unused"})
 public final class PluginBroker extends AbstractBroker implements PluginMessageListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PluginBroker.class);
+    private static final int MAX_PENDING_MESSAGES = 64;
+    private static final long MAX_PENDING_BYTES = 16L * 1024 * 1024;
+    private static final Duration FRAGMENT_TIMEOUT = Duration.ofSeconds(30);
+
     private final AbstractExample plugin;
     private final String name;
     private final String channelName;
+    private final FragmentReassembler reassembler = new FragmentReassembler(MAX_PENDING_MESSAGES, MAX_PENDING_BYTES, FRAGMENT_TIMEOUT);
 
     public PluginBroker(MessageConsumer messageConsumer, String name) {
         super(messageConsumer);
@@ -30,28 +47,53 @@ public final class PluginBroker extends AbstractBroker implements PluginMessageL
         this.channelName = "%s:message".formatted(name.toLowerCase());
     }
 
+    /**
+     * Sends a message, split into fragments if it does not fit in a single plugin message.
+     *
+     * @param message the message to send
+     * @param <T>     the type of the message
+     * @throws IOException if the encoded message is larger than the receiving server can reassemble
+     */
     @Override
-    public <T> void send(@NotNull OutgoingMessage<T> message) {
-        send(message.encode());
+    public <T> void send(@NotNull OutgoingMessage<T> message) throws IOException {
+        final byte[] encoded = message.encode();
+        if (encoded.length > MAX_PENDING_BYTES) { // The reassembler on the receiving server would drop it
+            LOGGER.warn("Not sending message {} on channel {}, {} bytes encoded exceeds the plugin message limit of {} bytes.", message.getUUID(), message.getChannelID(), encoded.length, MAX_PENDING_BYTES);
+            throw new IOException("Message " + message.getUUID() + " is too large to send as plugin messages");
+        }
+
+        send(MessageFragmenter.split(message.getUUID(), encoded, Messenger.MAX_MESSAGE_SIZE));
     }
 
     /**
-     * Schedules a task to send a plugin message via the first available player
+     * Schedules a task to send plugin messages via the first available player
      *
-     * @param messageBytes the encoded message
+     * @param packets the packets of the encoded message, sent in the same tick through the same player
      */
-    private void send(byte[] messageBytes) {
+    private void send(List<byte[]> packets) {
         plugin.getServer().getScheduler().runTaskTimer(plugin, task -> {
             final Optional<Player> playerEntry = plugin.getServer().getOnlinePlayers().stream().findFirst().map(Player::getPlayer);
             if (playerEntry.isEmpty())
                 return;
 
-            playerEntry.get().sendPluginMessage(plugin, channelName, messageBytes);
+            for (byte[] packet : packets)
+                playerEntry.get().sendPluginMessage(plugin, channelName, packet);
             task.cancel();
         }, 1L, 100L);
     }
 
-    private void receive(byte[] messageBytes) {
+    private void receive(byte[] packet) {
+        final byte @Nullable [] messageBytes;
+        try {
+            messageBytes = reassembler.receive(packet);
+        } catch (IOException e) {
+            LOGGER.warn("Dropping malformed plugin message: {}", e.getMessage());
+            return;
+        }
+
+        if (messageBytes == null) // Waiting for the remaining fragments
+            return;
+
         final BidirectionalMessage<?> message = BidirectionalMessage.from(messageBytes);
         getMessageConsumer().consumeMessage(message);
     }
@@ -74,5 +116,6 @@ public final class PluginBroker extends AbstractBroker implements PluginMessageL
     public void close() {
         plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, channelName);
         plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, channelName);
+        reassembler.clear();
     }
 }
@@ -2,6 +2,7 @@ package io.github.exampleuser.example.messaging.config;
 
 import io.github.exampleuser.example.config.DatabaseConfig;
 import io.github.exampleuser.example.messaging.broker.BrokerType;
+import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +17,7 @@ public record MessagingConfig(
     boolean enabled,
     long pollingInterval,
     long cleanupInterval,
+    int compressionThreshold,
     BrokerType brokerType,
     AddressList addressList,
     String username,
@@ -65,6 +67,7 @@ public record MessagingConfig(
             .withEnabled(cfg.messaging.enabled)
             .withPollingInterval(cfg.messaging.pollingInterval)
             .withCleanupInterval(cfg.messaging.cleanupInterval)
+            .withCompressionThreshold(cfg.messaging.advanced.compressionThreshold)
             .withBroker(cfg.messaging.type)
             .withAddresses(cfg.messaging.addresses)
             .withUsername(cfg.messaging.username)
@@ -101,6 +104,7 @@ public record MessagingConfig(
         private @Nullable Boolean enabled;
         private @Nullable Long pollingInterval;
         private @Nullable Long cleanupInterval;
+        private @Nullable Integer compressionThreshold;
         private @Nullable BrokerType broker;
         private @Nullable AddressList addressList;
         private @Nullable String username;
@@ -126,6 +130,14 @@ public record MessagingConfig(
             return this;
         }
 
+        /**
+         * Set the size in bytes from which messages are compressed, or 0 to disable compression.
+         */
+        public Builder withCompressionThreshold(int compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
         public Builder withBroker(BrokerType broker) {
             this.broker = broker;
             return this;
@@ -201,6 +213,14 @@ public record MessagingConfig(
                 pollingInterval = cleanupInterval / 3;
             }
 
+            if (compressionThreshold == null)
+                compressionThreshold = BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD;
+
+            if (compressionThreshold < 0) {
+                LOGGER.warn("Messaging \"compression-threshold\" was set to less than 0 ({} bytes), using default.", compressionThreshold);
+                compressionThreshold = BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD;
+            }
+
             BrokerType brokerType = broker;
             if (brokerType == null) {
                 LOGGER.warn("Messaging \"type\" is invalid, using default \"{}\".", BrokerType.DATABASE.getName());
@@ -231,7 +251,7 @@ public record MessagingConfig(
             if (nats == null)
                 nats = new NatsConfig("", "", "");
 
-            return new MessagingConfig(enabled, pollingInterval, cleanupInterval, brokerType,
+            return new MessagingConfig(enabled, pollingInterval, cleanupInterval, compressionThreshold, brokerType,
                 addressList, username, password, authMethod, authToken, ssl, rabbitMq, nats);
         }
     }
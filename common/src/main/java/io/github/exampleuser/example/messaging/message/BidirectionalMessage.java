@@ -3,8 +3,10 @@ package io.github.exampleuser.example.messaging.message;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -13,7 +15,8 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>Payload types must have a {@link MessageCodec} registered before the first send or receive.
  * Common types ({@code String}, {@code Integer}, {@code Long}, {@code Double}, {@code Boolean},
- * {@code UUID}) are pre-registered. For custom types, define a codec as a static constant on the
+ * {@code UUID}) are pre-registered, as are the codecs generated for records annotated with
+ * {@link MessagePayload}. For other custom types, define a codec as a static constant on the
  * payload class and register it at plugin startup:
  * <pre>{@code
  * record BalanceUpdate(UUID playerId, BigDecimal newBalance) {
@@ -36,11 +39,17 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p><b>Wire format</b> (binary, produced by {@link #encode()}):
  * <ol>
+ *   <li>Flags: one byte, {@code 0} if the rest is uncompressed, {@code 1} if it is compressed</li>
+ *   <li>If compressed, the length of the uncompressed rest as a 4-byte int, followed by the rest
+ *   compressed with zlib deflate</li>
  *   <li>UUID: two 8-byte longs (most significant bits first)</li>
  *   <li>Channel ID: modified UTF-8 string</li>
  *   <li>Payload class name: modified UTF-8 string (used to look up the codec on decode)</li>
  *   <li>Payload: whatever bytes the registered codec writes</li>
  * </ol>
+ * Messages are compressed when they are at least {@link #setCompressionThreshold(int) the threshold}
+ * long and compressing makes them smaller. Messages from versions predating the flags byte cannot be
+ * decoded, so all servers must be updated together.
  * Text-based transports (Redis, database) use {@link #encodeAsString()}, which wraps
  * the binary format in standard Base64.
  *
@@ -48,7 +57,16 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @SuppressWarnings("unused")
 public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
+    /**
+     * The default size in bytes from which messages are compressed.
+     */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    private static final byte FLAG_NONE = 0;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int COMPRESSED_HEADER_LENGTH = 5; // Flags and the uncompressed length
+    private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024; // Corrupt data could claim a huge length
     private static final Map<String, MessageCodec<?>> CODECS = new ConcurrentHashMap<>();
+    private static volatile int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
 
     static {
         registerCodec(MessageCodecs.STRING);
@@ -57,6 +75,9 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
         registerCodec(MessageCodecs.DOUBLE);
         registerCodec(MessageCodecs.BOOLEAN);
         registerCodec(MessageCodecs.UUID);
+
+        for (MessageCodec<?> codec : ServiceLoader.load(MessageCodec.class, BidirectionalMessage.class.getClassLoader()))
+            registerCodec(codec); // Codecs generated for @MessagePayload records
     }
 
     private final UUID uuid;
@@ -104,6 +125,7 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
         final MessageCodec<T> codec = requireCodec(payloadType);
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (final DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeByte(FLAG_NONE);
             out.writeLong(uuid.getMostSignificantBits());
             out.writeLong(uuid.getLeastSignificantBits());
             out.writeUTF(channelId);
@@ -112,7 +134,32 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
         } catch (IOException e) {
             throw new RuntimeException("Failed to encode message " + uuid, e);
         }
-        return baos.toByteArray();
+        return compress(baos.toByteArray());
+    }
+
+    /**
+     * Compresses an encoded message if it is above the threshold and compressing makes it smaller.
+     *
+     * @param data the uncompressed message
+     * @return the compressed message, or the same array if left uncompressed
+     */
+    private static byte[] compress(byte[] data) {
+        final int threshold = compressionThreshold;
+        final int length = data.length - 1;
+        if (threshold <= 0 || length < threshold || length <= COMPRESSED_HEADER_LENGTH)
+            return data;
+
+        final byte[] compressed = new byte[length]; // At least one byte smaller than the uncompressed message
+        final int compressedLength = MessageCompression.deflate(data, 1, length, compressed, COMPRESSED_HEADER_LENGTH, compressed.length - COMPRESSED_HEADER_LENGTH);
+        if (compressedLength < 0) // Compressing did not make it smaller, like for payloads that are already compressed
+            return data;
+
+        compressed[0] = FLAG_DEFLATE;
+        compressed[1] = (byte) (length >>> 24);
+        compressed[2] = (byte) (length >>> 16);
+        compressed[3] = (byte) (length >>> 8);
+        compressed[4] = (byte) length;
+        return Arrays.copyOf(compressed, COMPRESSED_HEADER_LENGTH + compressedLength);
     }
 
     /**
@@ -126,7 +173,7 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
      */
     @SuppressWarnings("unchecked")
     public static <T> @NotNull BidirectionalMessage<T> from(byte[] data) {
-        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+        try (final DataInputStream in = new DataInputStream(decompress(data))) {
             final UUID uuid = new UUID(in.readLong(), in.readLong());
             final String channelId = in.readUTF();
             final String className = in.readUTF();
@@ -142,6 +189,36 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
         }
     }
 
+    /**
+     * Gets a stream over the uncompressed message, after the flags.
+     *
+     * @param data the encoded message
+     * @return the stream
+     * @throws IOException if the flags are unknown or the message is corrupt
+     */
+    private static ByteArrayInputStream decompress(byte[] data) throws IOException {
+        if (data.length == 0)
+            throw new EOFException("Message is empty");
+
+        switch (data[0]) {
+            case FLAG_NONE -> {
+                return new ByteArrayInputStream(data, 1, data.length - 1);
+            }
+            case FLAG_DEFLATE -> {
+                if (data.length < COMPRESSED_HEADER_LENGTH)
+                    throw new EOFException("Compressed message is truncated");
+
+                final int length = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+                if (length <= 0 || length > MAX_DECOMPRESSED_LENGTH)
+                    throw new IOException("Invalid uncompressed message length " + length);
+
+                return new ByteArrayInputStream(MessageCompression.inflate(data, COMPRESSED_HEADER_LENGTH, data.length - COMPRESSED_HEADER_LENGTH, length));
+            }
+            default ->
+                throw new IOException("Unknown message flags " + data[0] + ", the message may have been sent by an incompatible version");
+        }
+    }
+
     /**
      * Decodes a message from a Base64 string previously produced by {@link #encodeAsString()}.
      * Used by text-based transports (Redis, database).
@@ -167,6 +244,18 @@ public final class BidirectionalMessage<T> implements OutgoingMessage<T> {
         CODECS.put(codec.type().getName(), codec);
     }
 
+    /**
+     * Sets the size in bytes from which messages are compressed when encoded. Small messages are never worth
+     * compressing, the deflate overhead would outweigh the savings. Decoding handles both compressed and
+     * uncompressed messages regardless of this setting.
+     *
+     * @param threshold the size in bytes, or 0 to disable compression
+     * @see io.github.exampleuser.example.messaging.config.MessagingConfig#compressionThreshold()
+     */
+    public static void setCompressionThreshold(int threshold) {
+        compressionThreshold = threshold;
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> @NotNull MessageCodec<T> requireCodec(@NotNull Class<T> type) {
         final MessageCodec<T> codec = (MessageCodec<T>) CODECS.get(type.getName());
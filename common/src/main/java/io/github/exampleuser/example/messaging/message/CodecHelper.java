@@ -2,10 +2,10 @@ package io.github.exampleuser.example.messaging.message;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.io.DataInput;
-import java.io.DataOutput;
-import java.io.IOException;
-import java.util.UUID;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntFunction;
 
 /**
  * Static helpers for writing and reading common types inside composite {@link MessageCodec} lambdas.
@@ -22,8 +22,25 @@ import java.util.UUID;
  *     );
  * }
  * }</pre>
+ *
+ * <p>The variable-length helpers write small values in fewer bytes: {@link #writeVarInt} uses one byte
+ * per 7 bits of the value, and {@link #writeSignedVarInt} zigzag-encodes it first so small negative
+ * values stay small too. {@link #writeString} writes standard UTF-8 prefixed by its length, without
+ * the 64 KB limit of {@link DataOutput#writeUTF}.
+ *
+ * <p>Collections, maps and optionals are written with an {@link MessageCodec.Encoder} per element,
+ * such as the {@code encode} method of a codec, and read with a {@link MessageCodec.Decoder}:
+ * <pre>{@code
+ * CodecHelper.writeCollection(out, v.members(), MessageCodecs.UUID::encode);
+ * CodecHelper.writeMap(out, v.scores(), MessageCodecs.COMPACT_STRING::encode, MessageCodecs.COMPACT_INTEGER::encode);
+ *
+ * List<UUID> members = CodecHelper.readList(in, CodecHelper::readUUID);
+ * Map<String, Integer> scores = CodecHelper.readMap(in, HashMap::new, CodecHelper::readString, CodecHelper::readSignedVarInt);
+ * }</pre>
  */
 public final class CodecHelper {
+    private static final int MAX_PREALLOCATED = 1024; // Corrupt data could claim a huge size, so larger collections grow while reading
+
     private CodecHelper() {
     }
 
@@ -49,4 +66,304 @@ public final class CodecHelper {
     public static @NotNull UUID readUUID(@NotNull DataInput in) throws IOException {
         return new UUID(in.readLong(), in.readLong());
     }
+
+    /**
+     * Writes an int as an unsigned variable-length integer, using 1 byte for values below 128 and up to 5 bytes.
+     * Negative values always take 5 bytes, use {@link #writeSignedVarInt} for values that may be negative.
+     *
+     * @param out   the output stream
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeVarInt(@NotNull DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt}.
+     *
+     * @param in the input stream
+     * @return the decoded value
+     * @throws IOException if reading fails or the value is longer than 5 bytes
+     */
+    public static int readVarInt(@NotNull DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("VarInt is longer than 5 bytes");
+    }
+
+    /**
+     * Writes a long as an unsigned variable-length integer, using 1 byte for values below 128 and up to 10 bytes.
+     * Negative values always take 10 bytes, use {@link #writeSignedVarLong} for values that may be negative.
+     *
+     * @param out   the output stream
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeVarLong(@NotNull DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong}.
+     *
+     * @param in the input stream
+     * @return the decoded value
+     * @throws IOException if reading fails or the value is longer than 10 bytes
+     */
+    public static long readVarLong(@NotNull DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("VarLong is longer than 10 bytes");
+    }
+
+    /**
+     * Writes an int as a zigzag-encoded variable-length integer, so values close to zero take few bytes whatever
+     * their sign.
+     *
+     * @param out   the output stream
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeSignedVarInt(@NotNull DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads an int written by {@link #writeSignedVarInt}.
+     *
+     * @param in the input stream
+     * @return the decoded value
+     * @throws IOException if reading fails
+     */
+    public static int readSignedVarInt(@NotNull DataInput in) throws IOException {
+        final int value = readVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a long as a zigzag-encoded variable-length integer, so values close to zero take few bytes whatever
+     * their sign.
+     *
+     * @param out   the output stream
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeSignedVarLong(@NotNull DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a long written by {@link #writeSignedVarLong}.
+     *
+     * @param in the input stream
+     * @return the decoded value
+     * @throws IOException if reading fails
+     */
+    public static long readSignedVarLong(@NotNull DataInput in) throws IOException {
+        final long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a string as standard UTF-8, prefixed by its length in bytes as a {@link #writeVarInt varint}.
+     * Unlike {@link DataOutput#writeUTF}, strings longer than 64 KB are supported.
+     *
+     * @param out    the output stream
+     * @param string the string to write
+     * @throws IOException if writing fails
+     */
+    public static void writeString(@NotNull DataOutput out, @NotNull String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     *
+     * @param in the input stream
+     * @return the decoded string
+     * @throws IOException if reading fails or the length is invalid
+     */
+    public static @NotNull String readString(@NotNull DataInput in) throws IOException {
+        final int length = readVarInt(in);
+        if (length < 0)
+            throw new IOException("Invalid string length " + length);
+
+        // Corrupt data could claim a huge length, check it against what is left before allocating
+        if (in instanceof InputStream stream && length > stream.available())
+            throw new EOFException("String length " + length + " exceeds the remaining " + stream.available() + " bytes");
+
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an enum constant as its ordinal, encoded as a {@link #writeVarInt varint}.
+     *
+     * @param out   the output stream
+     * @param value the constant to write
+     * @throws IOException if writing fails
+     */
+    public static void writeEnum(@NotNull DataOutput out, @NotNull Enum<?> value) throws IOException {
+        writeVarInt(out, value.ordinal());
+    }
+
+    /**
+     * Reads an enum constant written by {@link #writeEnum}.
+     *
+     * @param in     the input stream
+     * @param values the constants of the enum, as returned by its {@code values()} method
+     * @param <E>    the enum type
+     * @return the decoded constant
+     * @throws IOException if reading fails or the ordinal is out of range
+     */
+    public static <E extends Enum<E>> @NotNull E readEnum(@NotNull DataInput in, @NotNull E[] values) throws IOException {
+        final int ordinal = readVarInt(in);
+        if (ordinal < 0 || ordinal >= values.length)
+            throw new IOException("Invalid ordinal " + ordinal + " for enum " + values.getClass().getComponentType().getName());
+        return values[ordinal];
+    }
+
+    /**
+     * Writes a collection as its size, encoded as a {@link #writeVarInt varint}, followed by its elements.
+     *
+     * @param out     the output stream
+     * @param values  the collection to write
+     * @param encoder the encoder for the elements
+     * @param <T>     the element type
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeCollection(@NotNull DataOutput out, @NotNull Collection<? extends T> values, @NotNull MessageCodec.Encoder<? super T> encoder) throws IOException {
+        writeVarInt(out, values.size());
+        for (T value : values)
+            encoder.encode(value, out);
+    }
+
+    /**
+     * Reads a collection written by {@link #writeCollection}.
+     *
+     * @param in      the input stream
+     * @param factory creates the collection, given the expected size
+     * @param decoder the decoder for the elements
+     * @param <T>     the element type
+     * @param <C>     the collection type
+     * @return the decoded collection
+     * @throws IOException if reading fails or the size is invalid
+     */
+    public static <T, C extends Collection<T>> @NotNull C readCollection(@NotNull DataInput in, @NotNull IntFunction<C> factory, @NotNull MessageCodec.Decoder<? extends T> decoder) throws IOException {
+        final int size = readSize(in);
+        final C values = factory.apply(Math.min(size, MAX_PREALLOCATED));
+        for (int i = 0; i < size; i++)
+            values.add(decoder.decode(in));
+        return values;
+    }
+
+    /**
+     * Reads a collection written by {@link #writeCollection} into an {@link ArrayList}.
+     *
+     * @param in      the input stream
+     * @param decoder the decoder for the elements
+     * @param <T>     the element type
+     * @return the decoded list
+     * @throws IOException if reading fails or the size is invalid
+     */
+    public static <T> @NotNull List<T> readList(@NotNull DataInput in, @NotNull MessageCodec.Decoder<? extends T> decoder) throws IOException {
+        return readCollection(in, ArrayList::new, decoder);
+    }
+
+    /**
+     * Writes a map as its size, encoded as a {@link #writeVarInt varint}, followed by its keys and values in turn.
+     *
+     * @param out          the output stream
+     * @param map          the map to write
+     * @param keyEncoder   the encoder for the keys
+     * @param valueEncoder the encoder for the values
+     * @param <K>          the key type
+     * @param <V>          the value type
+     * @throws IOException if writing fails
+     */
+    public static <K, V> void writeMap(@NotNull DataOutput out, @NotNull Map<? extends K, ? extends V> map, @NotNull MessageCodec.Encoder<? super K> keyEncoder, @NotNull MessageCodec.Encoder<? super V> valueEncoder) throws IOException {
+        writeVarInt(out, map.size());
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keyEncoder.encode(entry.getKey(), out);
+            valueEncoder.encode(entry.getValue(), out);
+        }
+    }
+
+    /**
+     * Reads a map written by {@link #writeMap}.
+     *
+     * @param in           the input stream
+     * @param factory      creates the map, given the expected size
+     * @param keyDecoder   the decoder for the keys
+     * @param valueDecoder the decoder for the values
+     * @param <K>          the key type
+     * @param <V>          the value type
+     * @param <M>          the map type
+     * @return the decoded map
+     * @throws IOException if reading fails or the size is invalid
+     */
+    public static <K, V, M extends Map<K, V>> @NotNull M readMap(@NotNull DataInput in, @NotNull IntFunction<M> factory, @NotNull MessageCodec.Decoder<? extends K> keyDecoder, @NotNull MessageCodec.Decoder<? extends V> valueDecoder) throws IOException {
+        final int size = readSize(in);
+        final M map = factory.apply(Math.min(size, MAX_PREALLOCATED));
+        for (int i = 0; i < size; i++)
+            map.put(keyDecoder.decode(in), valueDecoder.decode(in));
+        return map;
+    }
+
+    /**
+     * Writes an optional as a boolean telling whether a value is present, followed by the value if present.
+     *
+     * @param out     the output stream
+     * @param value   the optional to write
+     * @param encoder the encoder for the value
+     * @param <T>     the value type
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeOptional(@NotNull DataOutput out, @NotNull Optional<? extends T> value, @NotNull MessageCodec.Encoder<? super T> encoder) throws IOException {
+        out.writeBoolean(value.isPresent());
+        if (value.isPresent())
+            encoder.encode(value.get(), out);
+    }
+
+    /**
+     * Reads an optional written by {@link #writeOptional}.
+     *
+     * @param in      the input stream
+     * @param decoder the decoder for the value
+     * @param <T>     the value type
+     * @return the decoded optional
+     * @throws IOException if reading fails
+     */
+    public static <T> @NotNull Optional<T> readOptional(@NotNull DataInput in, @NotNull MessageCodec.Decoder<? extends T> decoder) throws IOException {
+        return in.readBoolean() ? Optional.of(decoder.decode(in)) : Optional.empty();
+    }
+
+    private static int readSize(DataInput in) throws IOException {
+        final int size = readVarInt(in);
+        if (size < 0)
+            throw new IOException("Invalid size " + size);
+        return size;
+    }
 }
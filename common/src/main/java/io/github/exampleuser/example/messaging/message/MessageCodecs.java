@@ -5,9 +5,17 @@ import java.util.UUID;
 /**
  * Pre-built {@link MessageCodec} instances for common Java types.
  *
- * <p>All codecs in this class are automatically registered when the messaging system
+ * <p>The fixed-size codecs in this class are automatically registered when the messaging system
  * initializes, so {@code String}, {@code Integer}, {@code Long}, {@code Double},
  * {@code Boolean}, and {@code UUID} payloads work out of the box.
+ *
+ * <p>The {@code COMPACT_} codecs write the same types in fewer bytes, using varints and length-prefixed
+ * UTF-8 without the 64 KB limit of {@link java.io.DataOutput#writeUTF}. They can be opted into per type
+ * by registering them at startup, which replaces the default codec for that type:
+ * <pre>{@code
+ * BidirectionalMessage.registerCodec(MessageCodecs.COMPACT_STRING);
+ * }</pre>
+ * The wire format of the type changes, so every server must register the same codecs.
  */
 public final class MessageCodecs {
     private MessageCodecs() {
@@ -69,4 +77,34 @@ public final class MessageCodecs {
         },
         in -> new java.util.UUID(in.readLong(), in.readLong())
     );
+
+    /**
+     * Codec for {@link String} as length-prefixed UTF-8, see {@link CodecHelper#writeString}.
+     * Not registered by default.
+     */
+    public static final MessageCodec<String> COMPACT_STRING = MessageCodec.of(
+        String.class,
+        (v, out) -> CodecHelper.writeString(out, v),
+        CodecHelper::readString
+    );
+
+    /**
+     * Codec for {@link Integer} as a zigzag-encoded varint of 1 to 5 bytes, see {@link CodecHelper#writeSignedVarInt}.
+     * Not registered by default.
+     */
+    public static final MessageCodec<Integer> COMPACT_INTEGER = MessageCodec.of(
+        Integer.class,
+        (v, out) -> CodecHelper.writeSignedVarInt(out, v),
+        CodecHelper::readSignedVarInt
+    );
+
+    /**
+     * Codec for {@link Long} as a zigzag-encoded varint of 1 to 10 bytes, see {@link CodecHelper#writeSignedVarLong}.
+     * Not registered by default.
+     */
+    public static final MessageCodec<Long> COMPACT_LONG = MessageCodec.of(
+        Long.class,
+        (v, out) -> CodecHelper.writeSignedVarLong(out, v),
+        CodecHelper::readSignedVarLong
+    );
 }
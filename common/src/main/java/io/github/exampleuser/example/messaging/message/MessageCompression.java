@@ -0,0 +1,104 @@
+package io.github.exampleuser.example.messaging.message;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate compression of encoded messages, reusing {@link Deflater} and {@link Inflater} instances.
+ *
+ * <p>Each instance holds a native zlib stream of several hundred kilobytes, which is only freed once the
+ * instance is ended or garbage collected. Instances are kept in a bounded pool instead, sized to the amount of
+ * threads likely to encode or decode at the same time. Instances are created when the pool is empty, and
+ * ended when it is full.
+ */
+final class MessageCompression {
+    /**
+     * The compression level, favoring speed as messages are compressed on every send.
+     */
+    static final int LEVEL = Deflater.BEST_SPEED;
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private MessageCompression() {
+    }
+
+    /**
+     * Compresses data into an output array, giving up if the compressed data does not fit.
+     *
+     * @param input        the input array
+     * @param offset       the offset of the data in the input array
+     * @param length       the length of the data
+     * @param output       the output array
+     * @param outputOffset the offset to write at in the output array
+     * @param maxLength    the maximum length of the compressed data
+     * @return the length of the compressed data, or -1 if it is longer than {@code maxLength}
+     */
+    static int deflate(byte[] input, int offset, int length, byte[] output, int outputOffset, int maxLength) {
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null)
+            deflater = new Deflater(LEVEL);
+
+        try {
+            deflater.setInput(input, offset, length);
+            deflater.finish();
+
+            int written = 0;
+            while (!deflater.finished() && written < maxLength)
+                written += deflater.deflate(output, outputOffset + written, maxLength - written);
+
+            return deflater.finished() ? written : -1;
+        } finally {
+            deflater.reset();
+            if (!DEFLATERS.offer(deflater))
+                deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses data compressed by {@link #deflate}.
+     *
+     * @param input  the input array
+     * @param offset the offset of the compressed data in the input array
+     * @param length the length of the compressed data
+     * @param size   the length of the data before compression
+     * @return the decompressed data
+     * @throws IOException if the data is corrupt or does not decompress to exactly {@code size} bytes
+     */
+    static byte[] inflate(byte[] input, int offset, int length, int size) throws IOException {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null)
+            inflater = new Inflater();
+
+        try {
+            inflater.setInput(input, offset, length);
+
+            final byte[] output = new byte[size];
+            int read = 0;
+            while (!inflater.finished()) {
+                // Once the output is full only the checksum should remain, a probe byte catches any data beyond the declared size
+                final int n = read < size ? inflater.inflate(output, read, size - read) : inflater.inflate(new byte[1]);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+                read += n;
+                if (read > size)
+                    break;
+            }
+
+            if (!inflater.finished() || read != size)
+                throw new IOException("Compressed message does not decompress to its declared size of " + size + " bytes");
+
+            return output;
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed message is corrupt", e);
+        } finally {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater))
+                inflater.end();
+        }
+    }
+}
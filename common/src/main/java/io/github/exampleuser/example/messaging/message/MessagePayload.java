@@ -0,0 +1,42 @@
+package io.github.exampleuser.example.messaging.message;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a record as a message payload, generating its {@link MessageCodec} at compile time.
+ *
+ * <p>For a record {@code PlayerUpdate}, a codec named {@code PlayerUpdateCodec} is generated in the
+ * same package, and for a nested record {@code Outer.Inner} one named {@code Outer_InnerCodec}. Generated
+ * codecs are registered in {@link BidirectionalMessage} automatically, no {@code registerCodec} call is needed:
+ * <pre>{@code
+ * @MessagePayload
+ * record PlayerUpdate(UUID playerId, String name, int level) {
+ * }
+ *
+ * BidirectionalMessage.<PlayerUpdate>builder()
+ *     .channelId("player-update")
+ *     .payload(new PlayerUpdate(playerId, name, level))
+ *     .build();
+ * }</pre>
+ *
+ * <p>Record components are encoded in declaration order as follows:
+ * <ul>
+ *   <li>{@code int}, {@code long}: zigzag-encoded varints, see {@link CodecHelper#writeSignedVarInt}</li>
+ *   <li>{@code boolean}, {@code byte}, {@code short}, {@code char}, {@code float}, {@code double}: fixed size,
+ *   as written by {@link java.io.DataOutput}</li>
+ *   <li>Boxed primitives: as their primitive</li>
+ *   <li>{@code String}: length-prefixed UTF-8, see {@link CodecHelper#writeString}</li>
+ *   <li>{@code UUID}: two longs, see {@link CodecHelper#writeUUID}</li>
+ *   <li>Enums: the ordinal as a varint</li>
+ *   <li>Records annotated with {@code @MessagePayload}: nested, using their generated codec</li>
+ * </ul>
+ * Components of other types fail compilation. Components annotated {@code @Nullable} are prefixed by a
+ * boolean telling whether a value is present, other components must not be null.
+ *
+ * <p>Changing the components of a record changes its wire format, so all servers must run the same version.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface MessagePayload {
+}
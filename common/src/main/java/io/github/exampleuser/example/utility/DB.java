@@ -1,6 +1,7 @@
 package io.github.exampleuser.example.utility;
 
 import io.github.exampleuser.example.database.handler.DatabaseHandler;
+import io.github.exampleuser.example.database.handler.QueryFunction;
 import io.github.exampleuser.example.database.jooq.JooqContext;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -8,6 +9,7 @@ import org.jooq.DSLContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Convenience class for accessing methods in {@link DatabaseHandler}
@@ -64,6 +66,18 @@ public final class DB {
         return getInstance().getDatabaseHandler().getConnection();
     }
 
+    /**
+     * Convenience method for {@link DatabaseHandler#getReadConnection} to get a {@link Connection} for read-only queries,
+     * served by the read replica when one is configured
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public static Connection getReadConnection() throws SQLException {
+        return getInstance().getDatabaseHandler().getReadConnection();
+    }
+
     /**
      * Convenience method for {@link JooqContext#createContext(Connection)} to getConnection {@link DSLContext}
      *
@@ -75,6 +89,36 @@ public final class DB {
         return getInstance().getDatabaseHandler().getJooqContext().createContext(con);
     }
 
+    /**
+     * Convenience method for {@link DatabaseHandler#async(QueryFunction)} to run a query off the server thread
+     * <p>
+     * Usage:
+     * <pre>{@code
+     * DB.async(ctx -> ctx.fetchCount(SOME_LIST))
+     *     .thenAccept(count -> Logger.get().info("Rows: {}", count));
+     * }</pre>
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return a future completed with the query result
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> async(QueryFunction<T> query) {
+        return getInstance().getDatabaseHandler().async(query);
+    }
+
+    /**
+     * Convenience method for {@link DatabaseHandler#asyncTransaction(QueryFunction)} to run a transactional query off the server thread
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return a future completed with the query result
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> asyncTransaction(QueryFunction<T> query) {
+        return getInstance().getDatabaseHandler().asyncTransaction(query);
+    }
+
     /**
      * Convenience method for accessing the {@link DatabaseHandler} instance
      *
@@ -0,0 +1,28 @@
+-- Table mapping cooldown type names to compact ids
+CREATE TABLE IF NOT EXISTS "${tablePrefix}cooldown_types" (
+    "id" SMALLINT NOT NULL,
+    "name" VARCHAR(64) NOT NULL,
+    PRIMARY KEY ("id")
+);
+CREATE UNIQUE INDEX "${tablePrefix}unique_cooldown_type_name" ON "${tablePrefix}cooldown_types" ("name"); -- Indexes and Unique indexed must be created in separate statements due to SQLite
+
+-- Assign ids to the cooldown types already in use
+INSERT INTO "${tablePrefix}cooldown_types" ("id", "name")
+SELECT ROW_NUMBER() OVER (ORDER BY "name"), "name"
+FROM (SELECT DISTINCT LOWER("cooldown_type") AS "name" FROM "${tablePrefix}cooldowns") AS "existing_types";
+
+-- Rebuild the cooldowns table storing the type id instead of the type name
+CREATE TABLE "${tablePrefix}cooldowns_new" (
+    "uuid" BINARY(16) NOT NULL,
+    "cooldown_type" SMALLINT NOT NULL,
+    "cooldown_time" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY ("uuid", "cooldown_type")
+);
+
+INSERT INTO "${tablePrefix}cooldowns_new" ("uuid", "cooldown_type", "cooldown_time")
+SELECT c."uuid", t."id", c."cooldown_time"
+FROM "${tablePrefix}cooldowns" c
+JOIN "${tablePrefix}cooldown_types" t ON t."name" = LOWER(c."cooldown_type");
+
+DROP TABLE "${tablePrefix}cooldowns";
+ALTER TABLE "${tablePrefix}cooldowns_new" RENAME TO "${tablePrefix}cooldowns";
@@ -0,0 +1,2 @@
+-- Index used to find and purge expired cooldowns
+CREATE INDEX "${tablePrefix}cooldowns_expiry" ON "${tablePrefix}cooldowns" ("cooldown_time");
@@ -1,13 +1,34 @@
 package io.github.exampleuser.example.database;
 
+import io.github.exampleuser.example.cooldown.CooldownType;
+import io.github.exampleuser.example.cooldown.CooldownTypeRegistry;
+import io.github.exampleuser.example.cooldown.Cooldowns;
+import io.github.exampleuser.example.cooldown.persistence.CooldownWriteQueue;
+import io.github.exampleuser.example.database.cache.WriteBehindCache;
 import io.github.exampleuser.example.database.config.DatabaseConfig;
 import io.github.exampleuser.example.database.exception.DatabaseInitializationException;
+import io.github.exampleuser.example.database.jooq.BulkUpsert;
+import io.github.exampleuser.example.database.schema.tables.records.SomeListRecord;
 import io.github.exampleuser.example.utility.DB;
+import org.jooq.DSLContext;
 import org.junit.jupiter.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.exampleuser.example.database.schema.Tables.SOME_LIST;
 
 /**
  * Contains all test cases.
@@ -77,6 +98,99 @@ abstract class AbstractDatabaseTest {
         Queries.saveAll();
     }
 
+    @Test
+    @DisplayName("Bulk Upsert")
+    void testBulkUpsert() throws SQLException {
+        final List<SomeListRecord> records = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) // Spans multiple statements
+            records.add(new SomeListRecord(QueryUtils.UUIDUtil.toBytes(UUID.randomUUID()), "bulk"));
+
+        try (Connection con = DB.getConnection()) {
+            final DSLContext context = DB.getContext(con);
+            final int before = context.fetchCount(SOME_LIST);
+
+            BulkUpsert.execute(context, SOME_LIST, records);
+            Assertions.assertEquals(before + records.size(), context.fetchCount(SOME_LIST));
+
+            records.forEach(r -> r.set(SOME_LIST._NAME, "updated"));
+            BulkUpsert.execute(context, SOME_LIST, records); // Updates instead of inserts
+            Assertions.assertEquals(before + records.size(), context.fetchCount(SOME_LIST));
+            Assertions.assertEquals(records.size(), context.fetchCount(SOME_LIST, SOME_LIST._NAME.eq("updated")));
+        }
+    }
+
+    @Test
+    @DisplayName("Write Behind Cache")
+    void testWriteBehindCache() {
+        final WriteBehindCache<SomeListRecord> cache = WriteBehindCache.forTable(SOME_LIST, SOME_LIST.UUID).build();
+        final UUID uuid = UUID.randomUUID();
+        cache.start();
+
+        Assertions.assertNotNull(cache.load(uuid).join()); // New players get a default record
+        Assertions.assertTrue(cache.modify(uuid, r -> r.set(SOME_LIST._NAME, "cached")));
+        Assertions.assertEquals(1, cache.dirtyCount());
+        Assertions.assertTrue(cache.markDirty(uuid));
+        Assertions.assertFalse(cache.markDirty(UUID.randomUUID()), "Values that are not cached cannot be marked dirty");
+        Assertions.assertEquals(0, cache.stop(5000L)); // Flushes dirty records
+
+        final SomeListRecord stored = Queries.Entities.load(SOME_LIST, SOME_LIST.UUID, uuid);
+        Assertions.assertNotNull(stored);
+        Assertions.assertEquals("cached", stored.get(SOME_LIST._NAME));
+    }
+
+    @Test
+    @DisplayName("Write Behind Cache Stop While Loading")
+    void testWriteBehindCacheStopWhileLoading() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final WriteBehindCache<String> cache = WriteBehindCache.<String>builder()
+            .withLoader(uuid -> {
+                while (true) {
+                    try {
+                        release.await(); // Ignores the interrupt from stopping, so the load is still in flight afterwards
+                        return "loaded";
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+            })
+            .withSaver(values -> true)
+            .build();
+        cache.start();
+
+        final List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) // More than the loader threads, so one load is still queued
+            futures.add(cache.load(UUID.randomUUID()));
+
+        try {
+            Assertions.assertEquals(0, cache.stop(5000L));
+            for (CompletableFuture<String> future : futures) {
+                Assertions.assertTrue(future.isCompletedExceptionally(), "Loads in flight should fail when the cache stops");
+                Assertions.assertThrows(CompletionException.class, future::join);
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Cooldown Rejoin Before Flush")
+    void testCooldownRejoinBeforeFlush() {
+        Assertions.assertTrue(CooldownTypeRegistry.bind());
+        final CooldownWriteQueue writeQueue = new CooldownWriteQueue(); // Not started, so nothing is flushed in the background
+        final UUID uuid = UUID.randomUUID();
+        final Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+
+        // Quit
+        Cooldowns.apply(uuid, CooldownType.EXAMPLE_COOLDOWN, expiresAt);
+        writeQueue.enqueue(uuid);
+        Cooldowns.removeAll(uuid);
+        Assertions.assertTrue(Queries.Cooldown.load(uuid).isEmpty(), "Snapshot should not be written until flushed");
+
+        // Rejoin before the queue is flushed
+        Assertions.assertNull(writeQueue.flush(uuid), "Snapshot should be written");
+        Assertions.assertEquals(0, writeQueue.size(), "Written snapshot should no longer be queued");
+        Assertions.assertEquals(expiresAt, Queries.Cooldown.load(uuid).get(CooldownType.EXAMPLE_COOLDOWN), "Rejoining player should load the cooldowns they quit with");
+    }
+
     @Test
     @DisplayName("Transaction")
     void testQueryTransaction() {
@@ -88,4 +202,24 @@ abstract class AbstractDatabaseTest {
     void testQuerySelect() {
         Queries.loadAll();
     }
+
+    @Test
+    @DisplayName("Select Streaming")
+    void testQuerySelectStreaming() {
+        final var expected = Queries.loadAll();
+        Assertions.assertNotNull(expected);
+
+        final AtomicInteger rows = new AtomicInteger();
+        Assertions.assertTrue(Queries.loadAll(r -> rows.incrementAndGet()));
+        Assertions.assertEquals(expected.size(), rows.get());
+
+        final AtomicInteger chunkedRows = new AtomicInteger();
+        Assertions.assertTrue(Queries.loadAll(1, chunk -> {
+            Assertions.assertTrue(chunk.size() <= 1);
+            chunkedRows.addAndGet(chunk.size());
+        }));
+        Assertions.assertEquals(expected.size(), chunkedRows.get());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Queries.loadAll(0, chunk -> {}));
+    }
 }
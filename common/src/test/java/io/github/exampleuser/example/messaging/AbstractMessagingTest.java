@@ -179,4 +179,33 @@ abstract class AbstractMessagingTest {
 
         logger.info("Test iteration completed successfully for test: {} #{}", testInfo.getDisplayName(), repetitionInfo.getCurrentRepetition());
     }
+
+    @Test
+    @Order(4)
+    @DisplayName("Large Message Integrity")
+    void testLargeMessageIntegrity(TestInfo testInfo) throws InterruptedException, ExecutionException {
+        final TestMessage payload = new TestMessage(randomString(16).repeat(2_500)); // Compressed on the wire, as it is above the compression threshold
+        final BidirectionalMessage<Object> message = BidirectionalMessage.builder()
+            .channelId("message")
+            .payload(payload)
+            .build();
+
+        final CountDownLatch receiveLatch = new CountDownLatch(1);
+        final AtomicReference<Message<?>> receivedMessage = new AtomicReference<>();
+
+        MockEventSystem.registerListener(event -> {
+            if (event instanceof MockSyncMessageEvent incomingMessage && message.getUUID().equals(incomingMessage.getMessage().getUUID())) {
+                receivedMessage.set(incomingMessage.getMessage());
+                receiveLatch.countDown();
+            }
+        });
+
+        final boolean messageSent = Messaging.send(message).get();
+        Assertions.assertTrue(messageSent, "Message should have been sent but wasn't");
+
+        final boolean messageReceived = receiveLatch.await(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(messageReceived, "Message should have been received within timeout");
+        Assertions.assertEquals(payload, receivedMessage.get().getPayload(), "Received message payload should match");
+        logger.info("Large message of {} bytes received in test: {}", message.encode().length, testInfo.getDisplayName());
+    }
 }
@@ -0,0 +1,103 @@
+package io.github.exampleuser.example.messaging;
+
+import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
+import io.github.exampleuser.example.messaging.message.MessageCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the compression of the {@link BidirectionalMessage} wire format.
+ */
+class BidirectionalMessageTest {
+    private static final String COMPRESSIBLE = "{\"slot\":1,\"type\":\"DIAMOND_SWORD\",\"amount\":1}".repeat(1_000);
+    private static final MessageCodec<byte[]> BYTES = MessageCodec.of(
+        byte[].class,
+        (v, out) -> {
+            out.writeInt(v.length);
+            out.write(v);
+        },
+        in -> {
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return bytes;
+        }
+    );
+
+    @AfterEach
+    void resetThreshold() {
+        BidirectionalMessage.setCompressionThreshold(BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    private static BidirectionalMessage<Object> message(Object payload) {
+        return BidirectionalMessage.builder()
+            .channelId("compression")
+            .payload(payload)
+            .build();
+    }
+
+    private static String randomAscii(int length) {
+        final Random random = new Random(length);
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (' ' + random.nextInt(95));
+        return new String(chars);
+    }
+
+    @Test
+    @DisplayName("Compressed Round-Trip")
+    void testCompressed() {
+        final BidirectionalMessage<Object> message = message(COMPRESSIBLE);
+        final byte[] encoded = message.encode();
+        Assertions.assertEquals(1, encoded[0], "Large compressible messages should be compressed");
+        Assertions.assertTrue(encoded.length < COMPRESSIBLE.length() / 10, "Compressed message should be much smaller, was " + encoded.length + " bytes");
+
+        final BidirectionalMessage<Object> decoded = BidirectionalMessage.from(encoded);
+        Assertions.assertEquals(message.getUUID(), decoded.getUUID(), "Decoded message UUIDs should match");
+        Assertions.assertEquals(COMPRESSIBLE, decoded.getPayload(), "Decoded payload should match");
+        Assertions.assertEquals(COMPRESSIBLE, BidirectionalMessage.from(message.encodeAsString()).getPayload(), "Decoded Base64 payload should match");
+    }
+
+    @Test
+    @DisplayName("Uncompressed Round-Trip")
+    void testUncompressed() {
+        final byte[] small = message("small").encode();
+        Assertions.assertEquals(0, small[0], "Messages below the threshold should not be compressed");
+        Assertions.assertEquals("small", BidirectionalMessage.from(small).getPayload(), "Decoded payload should match");
+
+        BidirectionalMessage.registerCodec(BYTES);
+        final byte[] incompressible = new byte[BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD * 4];
+        new Random(incompressible.length).nextBytes(incompressible);
+        final byte[] random = message(incompressible).encode();
+        Assertions.assertTrue(random.length > BidirectionalMessage.DEFAULT_COMPRESSION_THRESHOLD, "Message should be above the threshold");
+        Assertions.assertEquals(0, random[0], "Messages that do not shrink should not be compressed");
+        Assertions.assertArrayEquals(incompressible, (byte[]) BidirectionalMessage.from(random).getPayload(), "Decoded payload should match");
+
+        BidirectionalMessage.setCompressionThreshold(0);
+        final byte[] disabled = message(COMPRESSIBLE).encode();
+        Assertions.assertEquals(0, disabled[0], "Messages should not be compressed when disabled");
+        Assertions.assertEquals(COMPRESSIBLE, BidirectionalMessage.from(disabled).getPayload(), "Decoded payload should match");
+    }
+
+    @Test
+    @DisplayName("Corrupt Compressed Message")
+    void testCorrupt() {
+        final byte[] encoded = message(COMPRESSIBLE + randomAscii(2_000)).encode();
+        Assertions.assertEquals(1, encoded[0], "Message should be compressed");
+
+        final byte[] truncated = Arrays.copyOf(encoded, encoded.length - 10);
+        Assertions.assertThrows(RuntimeException.class, () -> BidirectionalMessage.from(truncated), "Truncated messages should fail to decode");
+
+        final byte[] flipped = encoded.clone();
+        flipped[encoded.length / 2] ^= 0x55;
+        Assertions.assertThrows(RuntimeException.class, () -> BidirectionalMessage.from(flipped), "Corrupt messages should fail to decode");
+
+        final byte[] unknown = encoded.clone();
+        unknown[0] = 0x7F;
+        Assertions.assertThrows(RuntimeException.class, () -> BidirectionalMessage.from(unknown), "Unknown flags should fail to decode");
+    }
+}
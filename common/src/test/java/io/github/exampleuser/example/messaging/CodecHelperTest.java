@@ -0,0 +1,195 @@
+package io.github.exampleuser.example.messaging;
+
+import io.github.exampleuser.example.messaging.message.CodecHelper;
+import io.github.exampleuser.example.messaging.message.MessageCodec;
+import io.github.exampleuser.example.messaging.message.MessageCodecs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Round-trip fuzz tests of {@link CodecHelper} and the compact {@link MessageCodecs}, comparing encoded sizes with the
+ * default codecs.
+ */
+class CodecHelperTest {
+    private static final int ITERATIONS = 10_000;
+    private final Logger logger = LoggerFactory.getLogger("Messaging");
+    private final Random random = new Random(0x5EED); // Fixed seed so failures are reproducible
+
+    private static <T> byte[] encode(MessageCodec<T> codec, T value) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            codec.encode(value, out);
+        }
+        return baos.toByteArray();
+    }
+
+    private static <T> T decode(MessageCodec<T> codec, byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            final T value = codec.decode(in);
+            Assertions.assertEquals(0, in.available(), "Decoding should consume every encoded byte");
+            return value;
+        }
+    }
+
+    private static <T> T roundTrip(MessageCodec<T> codec, T value) throws IOException {
+        return decode(codec, encode(codec, value));
+    }
+
+    /**
+     * Random ints, skewed towards small values of either sign like most real payloads.
+     */
+    private IntStream ints() {
+        return IntStream.concat(
+            IntStream.of(0, 1, -1, 63, -64, 64, -65, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE),
+            IntStream.generate(() -> random.nextInt() >> random.nextInt(32)).limit(ITERATIONS)
+        );
+    }
+
+    private LongStream longs() {
+        return LongStream.concat(
+            LongStream.of(0L, 1L, -1L, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE),
+            LongStream.generate(() -> random.nextLong() >> random.nextInt(64)).limit(ITERATIONS)
+        );
+    }
+
+    /**
+     * A random string of ASCII, two-byte, three-byte and supplementary characters, skipping lone surrogates which
+     * UTF-8 cannot represent.
+     */
+    private String randomString(int maxLength) {
+        final StringBuilder builder = new StringBuilder();
+        final int length = random.nextInt(maxLength + 1);
+        while (builder.length() < length) {
+            final int codePoint = switch (random.nextInt(4)) {
+                case 0 -> random.nextInt(0x80);
+                case 1 -> 0x80 + random.nextInt(0x800 - 0x80);
+                case 2 -> 0xE000 + random.nextInt(0x10000 - 0xE000);
+                default -> 0x10000 + random.nextInt(Character.MAX_CODE_POINT + 1 - 0x10000);
+            };
+            builder.appendCodePoint(codePoint);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("VarInt Round-Trip")
+    void testVarInts() throws IOException {
+        final MessageCodec<Integer> unsigned = MessageCodec.of(Integer.class, (v, out) -> CodecHelper.writeVarInt(out, v), CodecHelper::readVarInt);
+        final MessageCodec<Long> unsignedLong = MessageCodec.of(Long.class, (v, out) -> CodecHelper.writeVarLong(out, v), CodecHelper::readVarLong);
+
+        for (int value : ints().toArray()) {
+            Assertions.assertEquals(value, (int) roundTrip(unsigned, value));
+            Assertions.assertEquals(value, (int) roundTrip(MessageCodecs.COMPACT_INTEGER, value));
+            Assertions.assertTrue(encode(MessageCodecs.COMPACT_INTEGER, value).length <= 5, "Varints should be at most 5 bytes");
+        }
+
+        for (long value : longs().toArray()) {
+            Assertions.assertEquals(value, (long) roundTrip(unsignedLong, value));
+            Assertions.assertEquals(value, (long) roundTrip(MessageCodecs.COMPACT_LONG, value));
+            Assertions.assertTrue(encode(MessageCodecs.COMPACT_LONG, value).length <= 10, "Varlongs should be at most 10 bytes");
+        }
+    }
+
+    @Test
+    @DisplayName("String Round-Trip")
+    void testStrings() throws IOException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = randomString(64);
+            Assertions.assertEquals(value, roundTrip(MessageCodecs.COMPACT_STRING, value));
+        }
+
+        final String large = randomString(200_000) + "a".repeat(70_000);
+        Assertions.assertEquals(large, roundTrip(MessageCodecs.COMPACT_STRING, large), "Strings over 64 KB should be supported");
+        Assertions.assertThrows(UTFDataFormatException.class, () -> encode(MessageCodecs.STRING, large), "Default codec should be limited to 64 KB");
+
+        final String nul = "before\0after";
+        Assertions.assertEquals(nul.length(), encode(MessageCodecs.COMPACT_STRING, nul).length - 1, "NUL should be a single byte in standard UTF-8");
+    }
+
+    @Test
+    @DisplayName("Collection Round-Trip")
+    void testCollections() throws IOException {
+        final MessageCodec<List<UUID>> list = MessageCodec.of(
+            castClass(List.class),
+            (v, out) -> CodecHelper.writeCollection(out, v, MessageCodecs.UUID::encode),
+            in -> CodecHelper.readList(in, CodecHelper::readUUID)
+        );
+        final MessageCodec<Map<String, Integer>> map = MessageCodec.of(
+            castClass(Map.class),
+            (v, out) -> CodecHelper.writeMap(out, v, MessageCodecs.COMPACT_STRING::encode, MessageCodecs.COMPACT_INTEGER::encode),
+            in -> CodecHelper.readMap(in, HashMap::new, CodecHelper::readString, CodecHelper::readSignedVarInt)
+        );
+        final MessageCodec<Optional<String>> optional = MessageCodec.of(
+            castClass(Optional.class),
+            (v, out) -> CodecHelper.writeOptional(out, v, MessageCodecs.COMPACT_STRING::encode),
+            in -> CodecHelper.readOptional(in, CodecHelper::readString)
+        );
+
+        for (int i = 0; i < 1_000; i++) {
+            final List<UUID> uuids = IntStream.range(0, random.nextInt(50)).mapToObj(j -> new UUID(random.nextLong(), random.nextLong())).toList();
+            Assertions.assertEquals(uuids, roundTrip(list, uuids));
+
+            final Map<String, Integer> scores = new HashMap<>();
+            for (int j = random.nextInt(50); j > 0; j--)
+                scores.put(randomString(16), random.nextInt());
+            Assertions.assertEquals(scores, roundTrip(map, scores));
+
+            final Optional<String> value = random.nextBoolean() ? Optional.of(randomString(16)) : Optional.empty();
+            Assertions.assertEquals(value, roundTrip(optional, value));
+        }
+
+        Assertions.assertThrows(EOFException.class, () -> decode(list, new byte[]{(byte) 0xFF, (byte) 0xFF, 0x7F}), "Sizes beyond the data should fail");
+    }
+
+    @Test
+    @DisplayName("Corrupt Data")
+    void testCorruptData() {
+        final byte[] tooLong = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        Assertions.assertThrows(IOException.class, () -> decode(MessageCodecs.COMPACT_INTEGER, tooLong), "Varints over 5 bytes should fail");
+        Assertions.assertThrows(EOFException.class, () -> decode(MessageCodecs.COMPACT_STRING, new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}), "String lengths beyond the data should fail");
+    }
+
+    @Test
+    @DisplayName("Size Comparison")
+    void testSizes() throws IOException {
+        long fixedInts = 0, compactInts = 0;
+        for (int value : ints().toArray()) {
+            fixedInts += encode(MessageCodecs.INTEGER, value).length;
+            compactInts += encode(MessageCodecs.COMPACT_INTEGER, value).length;
+        }
+
+        long fixedLongs = 0, compactLongs = 0;
+        for (long value : longs().toArray()) {
+            fixedLongs += encode(MessageCodecs.LONG, value).length;
+            compactLongs += encode(MessageCodecs.COMPACT_LONG, value).length;
+        }
+
+        long fixedStrings = 0, compactStrings = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = randomString(64);
+            fixedStrings += encode(MessageCodecs.STRING, value).length;
+            compactStrings += encode(MessageCodecs.COMPACT_STRING, value).length;
+        }
+
+        logger.info("Encoded size, default vs compact: ints {} vs {} bytes, longs {} vs {} bytes, strings {} vs {} bytes", fixedInts, compactInts, fixedLongs, compactLongs, fixedStrings, compactStrings);
+
+        Assertions.assertEquals(1, encode(MessageCodecs.COMPACT_INTEGER, -64).length, "Small ints should take a single byte");
+        Assertions.assertEquals(6, encode(MessageCodecs.COMPACT_LONG, 1_800_000_000_000L).length, "Epoch millis should take 6 bytes");
+        Assertions.assertTrue(compactInts < fixedInts, "Compact ints should be smaller on average");
+        Assertions.assertTrue(compactLongs < fixedLongs, "Compact longs should be smaller on average");
+        Assertions.assertTrue(compactStrings <= fixedStrings, "Compact strings should not be larger, as short lengths take 1 byte instead of 2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> castClass(Class<?> type) {
+        return (Class<T>) type;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.exampleuser.example.messaging;
+
+import io.github.exampleuser.example.messaging.broker.pluginmsg.FragmentReassembler;
+import io.github.exampleuser.example.messaging.broker.pluginmsg.MessageFragmenter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Tests the fragmentation of large plugin messages.
+ */
+class MessageFragmenterTest {
+    private static final int MAX_PACKET_SIZE = 32766;
+    private final Random random = new Random(0x5EED);
+
+    private byte[] randomBytes(int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static FragmentReassembler reassembler() {
+        return new FragmentReassembler(8, 1024 * 1024, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Small Message")
+    void testSmallMessage() throws IOException {
+        final byte[] message = randomBytes(MAX_PACKET_SIZE - 1);
+        final List<byte[]> packets = MessageFragmenter.split(UUID.randomUUID(), message, MAX_PACKET_SIZE);
+        Assertions.assertEquals(1, packets.size(), "Messages fitting in a packet should not be fragmented");
+        Assertions.assertEquals(MAX_PACKET_SIZE, packets.getFirst().length, "Packet should not exceed the maximum size");
+        Assertions.assertArrayEquals(message, reassembler().receive(packets.getFirst()), "Message should be received whole");
+    }
+
+    @Test
+    @DisplayName("Fragmented Message")
+    void testFragmentedMessage() throws IOException {
+        final FragmentReassembler reassembler = reassembler();
+        final byte[] first = randomBytes(200_000);
+        final byte[] second = randomBytes(MAX_PACKET_SIZE * 2);
+
+        final List<byte[]> packets = new ArrayList<>(MessageFragmenter.split(UUID.randomUUID(), first, MAX_PACKET_SIZE));
+        final List<byte[]> secondPackets = MessageFragmenter.split(UUID.randomUUID(), second, MAX_PACKET_SIZE);
+        Assertions.assertTrue(packets.stream().allMatch(packet -> packet.length <= MAX_PACKET_SIZE), "Fragments should not exceed the maximum size");
+
+        // Interleave both messages, out of order and with a duplicate, completing the first message last
+        final byte[] last = packets.removeLast();
+        packets.addAll(secondPackets);
+        packets.add(packets.getFirst());
+        Collections.shuffle(packets, random);
+        packets.add(last);
+
+        final List<byte[]> received = new ArrayList<>();
+        for (byte[] packet : packets) {
+            final byte[] message = reassembler.receive(packet);
+            if (message != null)
+                received.add(message);
+        }
+
+        Assertions.assertEquals(2, received.size(), "Both messages should be received once");
+        Assertions.assertArrayEquals(second, received.getFirst(), "Second message should be reassembled");
+        Assertions.assertArrayEquals(first, received.getLast(), "First message should be reassembled");
+        Assertions.assertEquals(0, reassembler.pendingCount(), "No incomplete messages should be buffered");
+    }
+
+    @Test
+    @DisplayName("Reassembly Bounds")
+    void testBounds() throws IOException, InterruptedException {
+        final FragmentReassembler bounded = new FragmentReassembler(2, 1024 * 1024, Duration.ofSeconds(30));
+        for (int i = 0; i < 3; i++)
+            bounded.receive(MessageFragmenter.split(UUID.randomUUID(), randomBytes(MAX_PACKET_SIZE * 2), MAX_PACKET_SIZE).getFirst());
+        Assertions.assertEquals(2, bounded.pendingCount(), "Oldest incomplete message should be evicted");
+
+        final List<byte[]> tooLarge = MessageFragmenter.split(UUID.randomUUID(), randomBytes(2 * 1024 * 1024), MAX_PACKET_SIZE);
+        Assertions.assertThrows(IOException.class, () -> bounded.receive(tooLarge.getFirst()), "Messages larger than the buffer should be rejected");
+
+        final FragmentReassembler expiring = new FragmentReassembler(8, 1024 * 1024, Duration.ofMillis(1));
+        final List<byte[]> packets = MessageFragmenter.split(UUID.randomUUID(), randomBytes(MAX_PACKET_SIZE * 2), MAX_PACKET_SIZE);
+        Assertions.assertNull(expiring.receive(packets.get(0)), "Message should be incomplete");
+        Thread.sleep(10);
+        Assertions.assertNull(expiring.receive(packets.get(1)), "Message should have expired before the remaining fragments arrived");
+
+        Assertions.assertThrows(IOException.class, () -> reassembler().receive(new byte[]{1, 2, 3}), "Truncated fragments should be rejected");
+        Assertions.assertThrows(IOException.class, () -> reassembler().receive(new byte[]{9}), "Unknown packet types should be rejected");
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.exampleuser.example.messaging;
+
+import io.github.exampleuser.example.messaging.message.BidirectionalMessage;
+import io.github.exampleuser.example.messaging.message.MessagePayload;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+/**
+ * Tests the codecs generated for {@link MessagePayload} records.
+ */
+class MessagePayloadTest {
+    enum Rank {
+        MEMBER,
+        ADMIN
+    }
+
+    @MessagePayload
+    record Position(int x, int y, int z) {
+    }
+
+    @MessagePayload
+    record PlayerState(UUID uuid, String name, @Nullable String nickname, long playtime, Integer level, boolean online, double balance, Rank rank, Position position, @Nullable Position home) {
+    }
+
+    private static <T> T roundTrip(T payload) {
+        final BidirectionalMessage<T> message = BidirectionalMessage.<T>builder()
+            .channelId("payload")
+            .payload(payload)
+            .build();
+
+        return BidirectionalMessage.<T>from(message.encode()).getPayload();
+    }
+
+    @Test
+    @DisplayName("Generated Codec Round-Trip")
+    void testRoundTrip() {
+        final PlayerState state = new PlayerState(UUID.randomUUID(), "Steve ☃", null, 123_456_789L, 42, true, -12.5, Rank.ADMIN, new Position(-1, 64, Integer.MIN_VALUE), new Position(0, 0, 0));
+        Assertions.assertEquals(state, roundTrip(state), "Decoded payload should equal the sent payload");
+
+        final PlayerState nicknamed = new PlayerState(UUID.randomUUID(), "Alex", "a".repeat(70_000), Long.MIN_VALUE, -7, false, Double.NaN, Rank.MEMBER, new Position(1, 2, 3), null);
+        Assertions.assertEquals(nicknamed, roundTrip(nicknamed), "Decoded payload should equal the sent payload");
+    }
+
+    @Test
+    @DisplayName("Generated Codec Varints")
+    void testVarints() {
+        final int header = BidirectionalMessage.builder().channelId("payload").payload(new Position(0, 0, 0)).build().encode().length - 3;
+        final int size = BidirectionalMessage.builder().channelId("payload").payload(new Position(1, -65, 300)).build().encode().length - header;
+        Assertions.assertEquals(1 + 2 + 2, size, "Small ints should be written as varints");
+    }
+}
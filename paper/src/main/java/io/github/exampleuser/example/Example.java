@@ -8,6 +8,7 @@ import io.github.exampleuser.example.database.handler.DatabaseHandler;
 import io.github.exampleuser.example.hook.HookManager;
 import io.github.exampleuser.example.listener.ListenerHandler;
 import io.github.exampleuser.example.messaging.MessagingHandler;
+import io.github.exampleuser.example.messaging.broker.BrokerType;
 import io.github.exampleuser.example.threadutil.SchedulerHandler;
 import io.github.exampleuser.example.translation.TranslationHandler;
 import io.github.exampleuser.example.updatechecker.UpdateHandler;
@@ -40,7 +41,7 @@ public class Example extends AbstractExample {
     private CooldownHandler cooldownHandler;
     private ExampleAPIProvider apiHandler;
 
-    // Handlers list (defines order of load/enable/disable)
+    // Handlers list (defines order of enable/disable, load order is defined by the startup orchestrator)
     private List<? extends Reloadable> handlers;
 
     @Override
@@ -82,8 +83,24 @@ public class Example extends AbstractExample {
 
         DB.init(databaseHandler);
         Messaging.init(messagingHandler);
-        for (Reloadable handler : handlers)
-            handler.onLoad(instance);
+
+        // Database and messaging connect concurrently, the other handlers load on the server thread meanwhile
+        StartupOrchestrator.builder()
+            .withLogger(getComponentLogger())
+            .sync("Config", configHandler)
+            .sync("Translation", translationHandler, "Config")
+            .async("Database", databaseHandler, "Config")
+            .async("Messaging", messagingHandler, "Config")
+            .dependsOnIf("Database", () -> configHandler.getDatabaseConfig().messaging.enabled && configHandler.getDatabaseConfig().messaging.type.equals(BrokerType.DATABASE))
+            .sync("Hooks", hookManager, "Config")
+            .sync("Commands", commandHandler, "Config")
+            .sync("Listeners", listenerHandler, "Config")
+            .sync("UpdateChecker", updateHandler, "Config")
+            .sync("Scheduler", schedulerHandler)
+            .sync("Cooldowns", cooldownHandler, "Config", "Database")
+            .sync("API", apiHandler)
+            .build()
+            .load(instance);
     }
 
     @Override
@@ -104,6 +121,7 @@ public class Example extends AbstractExample {
 
     @Override
     public void onDisable() {
+        databaseHandler.suspendThreadPolicy(); // Handlers disabled before the database write through it on the server thread
         for (Reloadable handler : handlers.reversed()) // If reverse doesn't work implement a new List with your desired disable order
             handler.onDisable(instance);
     }
@@ -1,6 +1,12 @@
 package io.github.exampleuser.example;
 
 import io.github.exampleuser.example.api.ExampleAPI;
+import io.github.exampleuser.example.api.database.QueryStatistics;
+import io.github.exampleuser.example.database.jooq.QueryStatsListener;
+import io.github.exampleuser.example.utility.DB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 
 class ExampleAPIProvider extends ExampleAPI implements Reloadable {
     private final Example plugin;
@@ -10,4 +16,13 @@ class ExampleAPIProvider extends ExampleAPI implements Reloadable {
         this.plugin = plugin;
         setInstance(this);
     }
+
+    @Override
+    public @NotNull List<? extends QueryStatistics> getQueryStatistics() {
+        if (!DB.isStarted())
+            return List.of();
+
+        final QueryStatsListener queryStats = DB.getHandler().getQueryStats();
+        return queryStats == null ? List.of() : queryStats.getStatistics();
+    }
 }
@@ -4,6 +4,8 @@ import com.google.gson.Gson;
 import io.papermc.paper.plugin.loader.PluginClasspathBuilder;
 import io.papermc.paper.plugin.loader.PluginLoader;
 import io.papermc.paper.plugin.loader.library.impl.MavenLibraryResolver;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -16,20 +18,95 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 @SuppressWarnings({"unused", "UnstableApiUsage"})
 public class ExamplePluginLoader implements PluginLoader {
+    /**
+     * Libraries only needed by one database type, keyed by {@code group:artifact}.
+     */
+    private static final Map<String, Set<String>> DATABASE_LIBRARIES = Map.of(
+        "com.h2database:h2", Set.of("h2"),
+        "org.xerial:sqlite-jdbc", Set.of("sqlite"),
+        "com.mysql:mysql-connector-j", Set.of("mysql"),
+        "org.mariadb.jdbc:mariadb-java-client", Set.of("mariadb"),
+        "org.flywaydb:flyway-mysql", Set.of("mysql", "mariadb")
+    );
+    /**
+     * Libraries only needed by one broker type, keyed by {@code group:artifact}.
+     */
+    private static final Map<String, String> BROKER_LIBRARIES = Map.of(
+        "redis.clients:jedis", "redis",
+        "io.nats:jnats", "nats",
+        "com.rabbitmq:amqp-client", "rabbitmq"
+    );
+
     @Override
     public void classloader(@NotNull PluginClasspathBuilder classpathBuilder) {
         MavenLibraryResolver resolver = new MavenLibraryResolver();
         PluginLibraries pluginLibraries = load();
+        Predicate<String> required = requiredLibraries(classpathBuilder.getContext().getDataDirectory().resolve("database.yml"));
         pluginLibraries.asRepositories().forEach(resolver::addRepository);
-        pluginLibraries.asDependencies().forEach(resolver::addDependency);
+        pluginLibraries.asDependencies(required).forEach(resolver::addDependency);
         classpathBuilder.addLibrary(resolver);
+
+        final long skipped = pluginLibraries.dependencies() == null ? 0 : pluginLibraries.dependencies().stream().filter(required.negate()).count();
+        if (skipped > 0)
+            classpathBuilder.getContext().getLogger().info("Skipped loading {} unused database driver and message broker libraries.", skipped);
+    }
+
+    /**
+     * Get which libraries are required by the database and message broker configured in {@code database.yml}.
+     * <p>
+     * Only the driver of the configured database type and the client of the configured broker are loaded, saving the
+     * time and memory spent resolving and loading the others. Everything is loaded if the file does not exist yet,
+     * like on the first start, or cannot be read. Changing the database or broker type therefore requires a restart.
+     * </p>
+     *
+     * @param databaseConfig the path of {@code database.yml}
+     * @return a predicate matching the maven coordinates of required libraries
+     */
+    private static Predicate<String> requiredLibraries(Path databaseConfig) {
+        if (!Files.isRegularFile(databaseConfig))
+            return coordinates -> true;
+
+        final YamlConfiguration yaml = new YamlConfiguration();
+        try {
+            yaml.load(databaseConfig.toFile());
+        } catch (IOException | InvalidConfigurationException e) {
+            return coordinates -> true;
+        }
+
+        final String databaseType = normalize(yaml.getString("database.type", "sqlite"));
+        final @Nullable String brokerType = yaml.getBoolean("messaging.enabled", false)
+            ? normalize(yaml.getString("messaging.type", "database"))
+            : null;
+
+        return coordinates -> {
+            final int versionSeparator = coordinates.indexOf(':', coordinates.indexOf(':') + 1);
+            final String module = versionSeparator == -1 ? coordinates : coordinates.substring(0, versionSeparator);
+
+            final Set<String> databaseTypes = DATABASE_LIBRARIES.get(module);
+            if (databaseTypes != null)
+                return databaseTypes.contains(databaseType);
+
+            final String broker = BROKER_LIBRARIES.get(module);
+            if (broker != null)
+                return broker.equals(brokerType);
+
+            return true;
+        };
+    }
+
+    private static String normalize(@Nullable String type) {
+        return type == null ? "" : type.toLowerCase(Locale.ROOT).replace("_", "").replace("-", "");
     }
 
     /**
@@ -95,10 +172,21 @@ public class ExamplePluginLoader implements PluginLoader {
          * @return A stream of {@link Dependency} instances.
          */
         public Stream<Dependency> asDependencies() {
+            return asDependencies(d -> true);
+        }
+
+        /**
+         * Get the declared dependencies matching a filter as a stream of {@link Dependency}.
+         *
+         * @param filter the filter, tested against the maven coordinates of each dependency
+         * @return A stream of {@link Dependency} instances.
+         */
+        public Stream<Dependency> asDependencies(Predicate<String> filter) {
             if (dependencies == null)
                 return Stream.empty();
 
             return dependencies.stream()
+                .filter(filter)
                 .map(d -> new Dependency(new DefaultArtifact(d), null));
         }
 
@@ -0,0 +1,146 @@
+package io.github.exampleuser.example.command;
+
+import dev.jorel.commandapi.CommandAPICommand;
+import dev.jorel.commandapi.CommandAPIPaper;
+import dev.jorel.commandapi.exceptions.WrapperCommandSyntaxException;
+import dev.jorel.commandapi.executors.CommandArguments;
+import io.github.exampleuser.example.database.jooq.QueryStats;
+import io.github.exampleuser.example.database.jooq.QueryStatsListener;
+import io.github.exampleuser.example.database.pool.PoolMetrics;
+import io.github.exampleuser.example.utility.DB;
+import io.github.milkdrinkers.colorparser.paper.ColorParser;
+import io.github.milkdrinkers.wordweaver.Translation;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+
+import static io.github.exampleuser.example.command.CommandHandler.BASE_PERM;
+
+/**
+ * Class containing the code for the database commands.
+ */
+final class DatabaseCommand extends Command {
+    private static final String DATABASE_PERM = BASE_PERM + ".database";
+    private static final int MAX_QUERIES_SHOWN = 10;
+    private static final int MAX_FINGERPRINT_LENGTH = 80;
+
+    /**
+     * Instantiates a new command tree.
+     */
+    public CommandAPICommand command() {
+        return new CommandAPICommand("database")
+            .withHelp("Database related commands.", "Database related commands.")
+            .withPermission(DATABASE_PERM)
+            .withSubcommands(
+                commandQueries(),
+                commandPool(),
+                new CommandAPICommand("help")
+                    .executes(this::executorHelp)
+            )
+            .executes(this::executorHelp);
+    }
+
+    private CommandAPICommand commandQueries() {
+        return new CommandAPICommand("queries")
+            .withHelp("Show the queries taking the most time.", "Show the queries taking the most time.")
+            .withPermission(DATABASE_PERM + ".queries")
+            .withSubcommands(
+                new CommandAPICommand("reset")
+                    .withHelp("Reset the query statistics.", "Reset the query statistics.")
+                    .executes(this::executorQueriesReset)
+            )
+            .executes(this::executorQueries);
+    }
+
+    private CommandAPICommand commandPool() {
+        return new CommandAPICommand("pool")
+            .withHelp("Show connection pool metrics.", "Show connection pool metrics.")
+            .withPermission(DATABASE_PERM + ".pool")
+            .executes(this::executorPool);
+    }
+
+    private void executorHelp(CommandSender sender, CommandArguments args) {
+        sender.sendMessage(Translation.as("commands.database.help"));
+    }
+
+    private void executorQueries(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        final List<QueryStats> statistics = getQueryStats().getStatistics();
+        if (statistics.isEmpty()) {
+            sender.sendMessage(Translation.as("commands.database.queries.empty"));
+            return;
+        }
+
+        sender.sendMessage(Translation.as("commands.database.queries.header"));
+        for (final QueryStats stats : statistics.subList(0, Math.min(MAX_QUERIES_SHOWN, statistics.size()))) {
+            final String fingerprint = MiniMessage.miniMessage().escapeTags(stats.getFingerprint()); // SQL comparison operators would be parsed as tags
+            sender.sendMessage(
+                ColorParser.of(Translation.of("commands.database.queries.entry"))
+                    .with("query", abbreviate(fingerprint))
+                    .with("full_query", fingerprint)
+                    .with("executions", String.valueOf(stats.getExecutions()))
+                    .with("failures", String.valueOf(stats.getFailures()))
+                    .with("rows", String.valueOf(stats.getRows()))
+                    .with("total", formatMillis(stats.getTotalMillis()))
+                    .with("mean", formatMillis(stats.getMeanMillis()))
+                    .with("p95", formatMillis(stats.getPercentileMillis(0.95)))
+                    .build()
+            );
+        }
+    }
+
+    private void executorQueriesReset(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        getQueryStats().reset();
+        sender.sendMessage(Translation.as("commands.database.queries.reset"));
+    }
+
+    private void executorPool(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        final PoolMetrics poolMetrics = DB.isStarted() ? DB.getHandler().getPoolMetrics() : null;
+        if (poolMetrics == null)
+            throw CommandAPIPaper.failWithAdventureComponent(Translation.as("commands.database.not-started"));
+
+        final PoolMetrics.Snapshot pool = poolMetrics.snapshot();
+        sender.sendMessage(
+            ColorParser.of(Translation.of("commands.database.pool"))
+                .with("active", String.valueOf(pool.active()))
+                .with("idle", String.valueOf(pool.idle()))
+                .with("total", String.valueOf(pool.total()))
+                .with("max", String.valueOf(pool.max()))
+                .with("pending", String.valueOf(pool.pending()))
+                .with("acquired", String.valueOf(pool.acquired()))
+                .with("acquire_mean", formatMillis(pool.acquireMean()))
+                .with("acquire_max", formatMillis(pool.acquireMax()))
+                .with("usage_mean", formatMillis(pool.usageMean()))
+                .with("usage_max", formatMillis(pool.usageMax()))
+                .with("timeouts", String.valueOf(pool.timeouts()))
+                .with("read_pool", Translation.of(getReadPoolStatus()))
+                .build()
+        );
+    }
+
+    private static String getReadPoolStatus() {
+        if (!DB.getHandler().hasReadPool())
+            return "commands.database.read-pool.disabled";
+
+        return DB.getHandler().isReadPoolAvailable() ? "commands.database.read-pool.available" : "commands.database.read-pool.unavailable";
+    }
+
+    private static QueryStatsListener getQueryStats() throws WrapperCommandSyntaxException {
+        final QueryStatsListener queryStats = DB.isStarted() ? DB.getHandler().getQueryStats() : null;
+        if (queryStats == null)
+            throw CommandAPIPaper.failWithAdventureComponent(Translation.as("commands.database.not-started"));
+        return queryStats;
+    }
+
+    private static String abbreviate(String fingerprint) {
+        if (fingerprint.length() <= MAX_FINGERPRINT_LENGTH)
+            return fingerprint;
+
+        final int end = fingerprint.charAt(MAX_FINGERPRINT_LENGTH - 1) == '\\' ? MAX_FINGERPRINT_LENGTH - 1 : MAX_FINGERPRINT_LENGTH; // Don't split an escape
+        return fingerprint.substring(0, end) + "...";
+    }
+
+    private static String formatMillis(double millis) {
+        return String.valueOf(Math.round(millis * 100) / 100.0);
+    }
+}
@@ -28,7 +28,8 @@ final class ExampleCommand extends Command {
             .withPermission(BASE_PERM)
             .withSubcommands(
                 new TranslationCommand().command(),
-                new DumpCommand().command()
+                new DumpCommand().command(),
+                new DatabaseCommand().command()
             )
             .executes(this::executorExample);
     }
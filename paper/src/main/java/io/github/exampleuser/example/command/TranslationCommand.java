@@ -6,6 +6,7 @@ import dev.jorel.commandapi.arguments.ArgumentSuggestions;
 import dev.jorel.commandapi.arguments.StringArgument;
 import dev.jorel.commandapi.exceptions.WrapperCommandSyntaxException;
 import dev.jorel.commandapi.executors.CommandArguments;
+import io.github.exampleuser.example.cooldown.DurationFormatter;
 import io.github.exampleuser.example.utility.Cfg;
 import io.github.milkdrinkers.colorparser.paper.ColorParser;
 import io.github.milkdrinkers.wordweaver.Translation;
@@ -60,6 +61,7 @@ final class TranslationCommand extends Command {
     private void executorReload(CommandSender sender, CommandArguments args) {
         Translation.setLocale(Cfg.get().language);
         Translation.reload();
+        DurationFormatter.loadTranslations();
         sender.sendMessage(Translation.as("commands.translation.reloaded"));
     }
 
@@ -0,0 +1,150 @@
+package io.github.exampleuser.example.hook.placeholderapi;
+
+import io.github.exampleuser.example.cooldown.CooldownType;
+import io.github.exampleuser.example.cooldown.CooldownTypeRegistry;
+import io.github.exampleuser.example.cooldown.Cooldowns;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves cooldown placeholders, caching the formatted output.
+ * <p>
+ * Supported placeholders, where {@code <type>} is a registered {@link CooldownType} name:
+ * <ul>
+ *   <li>{@code cooldown_<type>} - remaining time, e.g. "1 minute and 5 seconds"</li>
+ *   <li>{@code cooldown_<type>_compact} - remaining time, e.g. "1m 5s"</li>
+ *   <li>{@code cooldown_<type>_seconds} - remaining time, e.g. "65 seconds"</li>
+ *   <li>{@code cooldown_<type>_active} - "true" or "false"</li>
+ * </ul>
+ * Placeholders are parsed once per distinct placeholder. Formatted strings are cached per player, type, format and
+ * remaining second, so a placeholder polled every tick is only formatted once per second. Entries are invalidated
+ * when a cooldown changes and dropped when the player quits.
+ * </p>
+ */
+final class CooldownPlaceholders implements Cooldowns.ChangeListener, Listener {
+    static final String PREFIX = "cooldown_";
+
+    private static final Cooldowns.TimeFormat[] FORMATS = Cooldowns.TimeFormat.values();
+    private static final Map<String, Cooldowns.TimeFormat> SUFFIXES = Map.of(
+        "_compact", Cooldowns.TimeFormat.COMPACT,
+        "_seconds", Cooldowns.TimeFormat.SECONDS_ONLY
+    );
+    private static final String ACTIVE_SUFFIX = "_active";
+
+    private final Map<String, Placeholder> placeholders = new ConcurrentHashMap<>(); // Only known placeholders, so arbitrary input cannot grow it
+    private final Map<UUID, Entry[]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * A parsed placeholder, resolving to the remaining time in a format, or whether the cooldown is active if the format is null.
+     */
+    private record Placeholder(CooldownType type, @Nullable Cooldowns.TimeFormat format) {
+    }
+
+    /**
+     * A formatted string valid for a specific expiration time and remaining second.
+     */
+    private record Entry(long expiresAt, long remainingSeconds, String text) {
+    }
+
+    /**
+     * Resolves a cooldown placeholder.
+     *
+     * @param uuid   the player's UUID
+     * @param params the placeholder without the {@link #PREFIX}
+     * @return the resolved value, or null if the placeholder is not a known cooldown placeholder
+     */
+    @Nullable String request(@NotNull UUID uuid, @NotNull String params) {
+        Placeholder placeholder = placeholders.get(params);
+        if (placeholder == null) {
+            placeholder = parse(params);
+            if (placeholder == null)
+                return null;
+
+            placeholders.put(params, placeholder);
+        }
+
+        if (placeholder.format() == null)
+            return String.valueOf(Cooldowns.getMillis(uuid, placeholder.type()) > System.currentTimeMillis());
+
+        return format(uuid, placeholder.type(), placeholder.format());
+    }
+
+    /**
+     * Parses a cooldown placeholder.
+     *
+     * @param params the placeholder without the {@link #PREFIX}
+     * @return the parsed placeholder, or null if it does not name a bound cooldown type
+     */
+    private static @Nullable Placeholder parse(String params) {
+        // Resolve the exact name first, so type names ending in a suffix keep working
+        CooldownType type = CooldownTypeRegistry.get(params);
+        if (type != null && type.isBound())
+            return new Placeholder(type, Cooldowns.TimeFormat.DETAILED);
+
+        if (params.endsWith(ACTIVE_SUFFIX)) {
+            type = CooldownTypeRegistry.get(params.substring(0, params.length() - ACTIVE_SUFFIX.length()));
+            if (type != null && type.isBound())
+                return new Placeholder(type, null);
+        }
+
+        for (final Map.Entry<String, Cooldowns.TimeFormat> suffix : SUFFIXES.entrySet()) {
+            if (!params.endsWith(suffix.getKey()))
+                continue;
+
+            type = CooldownTypeRegistry.get(params.substring(0, params.length() - suffix.getKey().length()));
+            if (type != null && type.isBound())
+                return new Placeholder(type, suffix.getValue());
+        }
+
+        return null;
+    }
+
+    private String format(UUID uuid, CooldownType type, Cooldowns.TimeFormat format) {
+        final long expiresAt = Cooldowns.getMillis(uuid, type);
+        final long remainingSeconds = Math.max(0L, (expiresAt - System.currentTimeMillis()) / 1000L);
+
+        final int slot = type.id() * FORMATS.length + format.ordinal();
+        Entry[] entries = cache.get(uuid);
+        if (entries != null && slot < entries.length) {
+            final Entry entry = entries[slot];
+            if (entry != null && entry.expiresAt() == expiresAt && entry.remainingSeconds() == remainingSeconds)
+                return entry.text();
+        }
+
+        final String text = format.format(Duration.ofSeconds(remainingSeconds));
+        final Entry entry = new Entry(expiresAt, remainingSeconds, text);
+        cache.compute(uuid, (key, current) -> {
+            final int length = Math.max(slot + 1, (CooldownTypeRegistry.maxId() + 1) * FORMATS.length);
+            final Entry[] updated = current == null ? new Entry[length] : current.length >= length ? current : Arrays.copyOf(current, length);
+            updated[slot] = entry; // Racing writers store equivalent entries, so plain writes are fine
+            return updated;
+        });
+        return text;
+    }
+
+    @Override
+    public void onChange(UUID uuid, CooldownType type, @Nullable Instant expiresAt) {
+        final Entry[] entries = cache.get(uuid);
+        if (entries == null)
+            return;
+
+        final int base = type.id() * FORMATS.length;
+        for (int i = base; i < base + FORMATS.length && i < entries.length; i++)
+            entries[i] = null;
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent e) {
+        cache.remove(e.getPlayer().getUniqueId());
+    }
+}
@@ -11,9 +11,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class PAPIExpansion extends PlaceholderExpansion {
     private final Example plugin;
+    private final CooldownPlaceholders cooldownPlaceholders;
 
-    public PAPIExpansion(Example plugin) {
+    public PAPIExpansion(Example plugin, CooldownPlaceholders cooldownPlaceholders) {
         this.plugin = plugin;
+        this.cooldownPlaceholders = cooldownPlaceholders;
     }
 
     @Override
@@ -44,7 +46,12 @@ public class PAPIExpansion extends PlaceholderExpansion {
         return switch (params) {
             case "example" -> "placeholder text";
             case "example2" -> "placeholder text2";
-            default -> null;
+            default -> {
+                if (p != null && params.startsWith(CooldownPlaceholders.PREFIX))
+                    yield cooldownPlaceholders.request(p.getUniqueId(), params.substring(CooldownPlaceholders.PREFIX.length()));
+
+                yield null;
+            }
         };
     }
 }
@@ -2,14 +2,17 @@ package io.github.exampleuser.example.hook.placeholderapi;
 
 import io.github.exampleuser.example.AbstractExample;
 import io.github.exampleuser.example.Example;
+import io.github.exampleuser.example.cooldown.Cooldowns;
 import io.github.exampleuser.example.hook.AbstractHook;
 import io.github.exampleuser.example.hook.Hook;
+import org.bukkit.event.HandlerList;
 
 /**
  * A hook to interface with <a href="https://wiki.placeholderapi.com/">PlaceholderAPI</a>.
  */
 public class PAPIHook extends AbstractHook {
     private PAPIExpansion PAPIExpansion;
+    private CooldownPlaceholders cooldownPlaceholders;
 
     /**
      * Instantiates a new PlaceholderAPI hook.
@@ -25,7 +28,11 @@ public class PAPIHook extends AbstractHook {
         if (!isHookLoaded())
             return;
 
-        PAPIExpansion = new PAPIExpansion(super.getPlugin());
+        cooldownPlaceholders = new CooldownPlaceholders();
+        Cooldowns.addChangeListener(cooldownPlaceholders);
+        plugin.getServer().getPluginManager().registerEvents(cooldownPlaceholders, plugin);
+
+        PAPIExpansion = new PAPIExpansion(super.getPlugin(), cooldownPlaceholders);
         PAPIExpansion.register();
     }
 
@@ -36,6 +43,10 @@ public class PAPIHook extends AbstractHook {
 
         PAPIExpansion.unregister();
         PAPIExpansion = null;
+
+        Cooldowns.removeChangeListener(cooldownPlaceholders);
+        HandlerList.unregisterAll(cooldownPlaceholders);
+        cooldownPlaceholders = null;
     }
 
     @Override
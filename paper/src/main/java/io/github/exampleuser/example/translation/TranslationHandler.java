@@ -3,6 +3,7 @@ package io.github.exampleuser.example.translation;
 import io.github.exampleuser.example.AbstractExample;
 import io.github.exampleuser.example.Reloadable;
 import io.github.exampleuser.example.config.ConfigHandler;
+import io.github.exampleuser.example.cooldown.DurationFormatter;
 import io.github.milkdrinkers.colorparser.paper.ColorParser;
 import io.github.milkdrinkers.colorparser.paper.engine.PaperParserEngine;
 import io.github.milkdrinkers.wordweaver.Translation;
@@ -42,5 +43,6 @@ public class TranslationHandler implements Reloadable {
             )
             .build()
         );
+        DurationFormatter.loadTranslations();
     }
 }
@@ -0,0 +1 @@
+// Annotation processors run while compiling the other modules, this module is never shaded into the plugin jar
@@ -0,0 +1,305 @@
+package io.github.exampleuser.example.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@code MessageCodec} for every record annotated with {@code @MessagePayload}.
+ * <p>
+ * Codecs are written as plain Java source calling {@code DataOutput} and {@code CodecHelper} directly, one statement
+ * per record component, so they contain no lambdas or reflection. Every generated codec is listed in
+ * {@code META-INF/services}, where {@code BidirectionalMessage} loads them from with a {@link java.util.ServiceLoader}.
+ * </p>
+ * <p>
+ * The annotation is referenced by name, this module does not depend on the module declaring it.
+ * </p>
+ */
+@SupportedAnnotationTypes(MessagePayloadProcessor.ANNOTATION)
+public final class MessagePayloadProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "io.github.exampleuser.example.messaging.message.MessagePayload";
+    private static final String CODEC = "io.github.exampleuser.example.messaging.message.MessageCodec";
+    private static final String HELPER = "io.github.exampleuser.example.messaging.message.CodecHelper";
+    private static final String SERVICE_FILE = "META-INF/services/" + CODEC;
+
+    private final Set<String> codecs = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (validate(element))
+                    generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check the annotated element is a record the generated codec can access and construct.
+     */
+    private boolean validate(Element element) {
+        if (element.getKind() != ElementKind.RECORD) {
+            error(element, "@MessagePayload can only be applied to records");
+            return false;
+        }
+
+        final TypeElement record = (TypeElement) element;
+        if (!record.getTypeParameters().isEmpty()) {
+            error(record, "@MessagePayload records cannot be generic");
+            return false;
+        }
+
+        if (record.getNestingKind() == NestingKind.LOCAL || record.getNestingKind() == NestingKind.ANONYMOUS) {
+            error(record, "@MessagePayload records must be top-level or nested in a class");
+            return false;
+        }
+
+        for (Element e = record; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(record, "@MessagePayload records and their enclosing classes cannot be private");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        final String codecName = codecName(record);
+        final String recordName = record.getQualifiedName().toString();
+
+        final List<String> fields = new ArrayList<>();
+        final List<String> encode = new ArrayList<>();
+        final List<String> decode = new ArrayList<>();
+        final List<String> arguments = new ArrayList<>();
+
+        final List<? extends RecordComponentElement> components = record.getRecordComponents();
+        for (int i = 0; i < components.size(); i++) {
+            final RecordComponentElement component = components.get(i);
+            final TypeMirror type = component.asType();
+            final String getter = "value." + component.getSimpleName() + "()";
+            final String variable = "c" + i; // Component names could shadow the parameters of the codec methods
+
+            final @Nullable Mapping mapping = mapping(type, i, fields);
+            if (mapping == null) {
+                error(component, "Unsupported type %s of component %s, write a MessageCodec by hand for this record".formatted(type, component.getSimpleName()));
+                return;
+            }
+
+            if (!type.getKind().isPrimitive() && isNullable(component)) {
+                encode.add("final %s %s = %s;".formatted(erasure(type), variable, getter));
+                encode.add("out.writeBoolean(%s != null);".formatted(variable));
+                encode.add("if (%s != null)".formatted(variable));
+                encode.add("    " + mapping.write().formatted(variable) + ";");
+                decode.add("final %s %s = in.readBoolean() ? %s : null;".formatted(erasure(type), variable, mapping.read()));
+            } else {
+                encode.add(mapping.write().formatted(getter) + ";");
+                decode.add("final %s %s = %s;".formatted(erasure(type), variable, mapping.read()));
+            }
+            arguments.add(variable);
+        }
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+            source.append("package ").append(packageName).append(";\n\n");
+
+        source.append("/**\n")
+            .append(" * Generated codec for {@link ").append(recordName).append("}.\n")
+            .append(" */\n")
+            .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(codecName).append(" implements ").append(CODEC).append('<').append(recordName).append("> {\n")
+            .append("    public static final ").append(codecName).append(" INSTANCE = new ").append(codecName).append("();\n");
+
+        for (String field : fields)
+            source.append("    ").append(field).append('\n');
+
+        source.append('\n')
+            .append("    /**\n")
+            .append("     * Used by the service loader, use {@link #INSTANCE} instead.\n")
+            .append("     */\n")
+            .append("    public ").append(codecName).append("() {\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void encode(").append(recordName).append(" value, java.io.DataOutput out) throws java.io.IOException {\n");
+        for (String line : encode)
+            source.append("        ").append(line).append('\n');
+
+        source.append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(recordName).append(" decode(java.io.DataInput in) throws java.io.IOException {\n");
+        for (String line : decode)
+            source.append("        ").append(line).append('\n');
+
+        source.append("        return new ").append(recordName).append('(').append(String.join(", ", arguments)).append(");\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Class<").append(recordName).append("> type() {\n")
+            .append("        return ").append(recordName).append(".class;\n")
+            .append("    }\n")
+            .append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, record);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(record, "Failed to write " + qualifiedName + ": " + e.getMessage());
+            return;
+        }
+
+        codecs.add(qualifiedName);
+        originatingElements.add(record);
+    }
+
+    /**
+     * Get the statement writing a value of a type, with a {@code %s} placeholder for the value, and the expression
+     * reading it.
+     *
+     * @param type   the type
+     * @param index  the index of the record component
+     * @param fields the static fields of the codec, which fields needed by the mapping are added to
+     * @return the mapping, or null if the type is unsupported
+     */
+    private @Nullable Mapping mapping(TypeMirror type, int index, List<String> fields) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> new Mapping("out.writeBoolean(%s)", "in.readBoolean()");
+            case BYTE -> new Mapping("out.writeByte(%s)", "in.readByte()");
+            case SHORT -> new Mapping("out.writeShort(%s)", "in.readShort()");
+            case CHAR -> new Mapping("out.writeChar(%s)", "in.readChar()");
+            case INT -> new Mapping(HELPER + ".writeSignedVarInt(out, %s)", HELPER + ".readSignedVarInt(in)");
+            case LONG -> new Mapping(HELPER + ".writeSignedVarLong(out, %s)", HELPER + ".readSignedVarLong(in)");
+            case FLOAT -> new Mapping("out.writeFloat(%s)", "in.readFloat()");
+            case DOUBLE -> new Mapping("out.writeDouble(%s)", "in.readDouble()");
+            case DECLARED -> declaredMapping((DeclaredType) type, index, fields);
+            default -> null;
+        };
+    }
+
+    private @Nullable Mapping declaredMapping(DeclaredType type, int index, List<String> fields) {
+        if (!type.getTypeArguments().isEmpty())
+            return null;
+
+        try {
+            return mapping(processingEnv.getTypeUtils().unboxedType(type), index, fields);
+        } catch (IllegalArgumentException ignored) { // Not a boxed primitive
+        }
+
+        final TypeElement element = (TypeElement) type.asElement();
+        final String name = element.getQualifiedName().toString();
+
+        if (name.equals("java.lang.String"))
+            return new Mapping(HELPER + ".writeString(out, %s)", HELPER + ".readString(in)");
+
+        if (name.equals("java.util.UUID"))
+            return new Mapping(HELPER + ".writeUUID(out, %s)", HELPER + ".readUUID(in)");
+
+        if (element.getKind() == ElementKind.ENUM) {
+            final String values = "VALUES_" + index;
+            fields.add("private static final %s[] %s = %s.values();".formatted(name, values, name)); // values() copies the array on every call
+            return new Mapping(HELPER + ".writeEnum(out, %s)", HELPER + ".readEnum(in, " + values + ")");
+        }
+
+        if (element.getKind() == ElementKind.RECORD && isAnnotated(element)) {
+            final String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+            final String codec = (packageName.isEmpty() ? "" : packageName + ".") + codecName(element) + ".INSTANCE";
+            return new Mapping(codec + ".encode(%s, out)", codec + ".decode(in)");
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the name of the codec generated for a record, prefixed by the names of its enclosing classes.
+     */
+    private static String codecName(TypeElement record) {
+        final Deque<String> names = new ArrayDeque<>();
+        for (Element e = record; e instanceof TypeElement; e = e.getEnclosingElement())
+            names.addFirst(e.getSimpleName().toString());
+        return String.join("_", names) + "Codec";
+    }
+
+    private static boolean isAnnotated(TypeElement element) {
+        return element.getAnnotationMirrors().stream()
+            .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION));
+    }
+
+    /**
+     * Check whether a component is annotated with any {@code @Nullable}, which depending on its targets ends up on the
+     * component, its type or its accessor.
+     */
+    private static boolean isNullable(RecordComponentElement component) {
+        return Stream.of(
+                component.getAnnotationMirrors(),
+                component.asType().getAnnotationMirrors(),
+                component.getAccessor().getAnnotationMirrors(),
+                component.getAccessor().getReturnType().getAnnotationMirrors()
+            )
+            .flatMap(List::stream)
+            .anyMatch(mirror -> mirror.getAnnotationType().asElement().getSimpleName().contentEquals("Nullable"));
+    }
+
+    /**
+     * Get the name of a primitive or declared type, without the type annotations {@link TypeMirror#toString()} includes.
+     */
+    private static String erasure(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    private void writeServiceFile() {
+        if (codecs.isEmpty())
+            return;
+
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE, originatingElements.toArray(Element[]::new));
+            try (Writer writer = file.openWriter()) {
+                for (String codec : codecs)
+                    writer.write(codec + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * How a type is written and read.
+     *
+     * @param write the statement writing a value, with a {@code %s} placeholder for the value
+     * @param read  the expression reading a value
+     */
+    private record Mapping(String write, String read) {
+    }
+}
@@ -13,4 +13,4 @@ rootProject.name = "Example"
 
 enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")
 
-include("api", "common", "paper")
+include("api", "common", "paper", "processor")